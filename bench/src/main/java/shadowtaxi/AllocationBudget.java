@@ -0,0 +1,232 @@
+package shadowtaxi;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+
+import java.io.IOException;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+
+/**
+ * A build gate which plays game sessions without a window and measures the memory allocated by every frame of the game
+ * world, updating it and queueing its drawing, once the game has warmed up. A steady frame should allocate nothing,
+ * including a frame which spawns a car again from its pool or does damage, so it must stay within the per-frame limit.
+ * Only event frames may allocate: the frames the game world marks as creating a collider or a fireball, or starting or
+ * ending a trip, and the frames which load a class because they run some code of the game for the first time. They
+ * must stay within the event limit instead.
+ * Usage: {@code java -XX:TieredStopAtLevel=1 -cp bench/target/benchmarks.jar shadowtaxi.AllocationBudget
+ * [--warmup frames] [--limit bytes] [--event-limit bytes] [recording...]}, from the repository root. Without
+ * recordings, a session driven by the autopilot with a fixed seed is played, which must last until its time is up.
+ * The sessions are played by the first tier of the compiler only. The optimizing tier keeps some short-lived objects
+ * off the heap, and puts them back on it at random frames whenever it recompiles, so it both hides allocations and
+ * makes the measurement change from run to run.
+ * The exit status is 1 if a steady frame allocates more than the limit, an event frame allocates more than the event
+ * limit, or the driven session ends early.
+ */
+public class AllocationBudget {
+    private static final int DEFAULT_WARMUP_FRAMES = 1000;
+    private static final int DEFAULT_LIMIT_BYTES = 0;
+    // a new car with its effects and collider, or a trip with its flag, takes a few kilobytes
+    private static final int DEFAULT_EVENT_LIMIT_BYTES = 16384;
+    private static final long SCRIPTED_SEED = 1;
+
+    private final int WARMUP_FRAMES;
+    private final int LIMIT_BYTES;
+    private final int EVENT_LIMIT_BYTES;
+    private final RenderQueue QUEUE = new RenderQueue();
+    private final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final ClassLoadingMXBean CLASSES = ManagementFactory.getClassLoadingMXBean();
+    private final long THREAD_ID = Thread.currentThread().getId();
+
+    // the measurements of the session being played
+    private int steadyFrames;
+    private int overLimitFrames;
+    private long worstBytes;
+    private int worstFrame;
+    private int eventFrames;
+    private long eventBytes;
+    private long worstEventBytes;
+    private int worstEventFrame;
+    private int overEventLimitFrames;
+
+    private AllocationBudget(int warmupFrames, int limitBytes, int eventLimitBytes) {
+        this.WARMUP_FRAMES = warmupFrames;
+        this.LIMIT_BYTES = limitBytes;
+        this.EVENT_LIMIT_BYTES = eventLimitBytes;
+    }
+
+    /**
+     * Measure the sessions given on the command line, or the session driven by the autopilot.
+     * @param args The recording files, optionally preceded by the warm-up frames and the limits in bytes per frame.
+     */
+    public static void main(String[] args) throws IOException {
+        int warmupFrames = DEFAULT_WARMUP_FRAMES;
+        int limitBytes = DEFAULT_LIMIT_BYTES;
+        int eventLimitBytes = DEFAULT_EVENT_LIMIT_BYTES;
+        int firstFile = 0;
+        while (firstFile + 1 < args.length && args[firstFile].startsWith("--")) {
+            if (args[firstFile].equals("--warmup")) {
+                warmupFrames = Integer.parseInt(args[firstFile + 1]);
+            } else if (args[firstFile].equals("--limit")) {
+                limitBytes = Integer.parseInt(args[firstFile + 1]);
+            } else if (args[firstFile].equals("--event-limit")) {
+                eventLimitBytes = Integer.parseInt(args[firstFile + 1]);
+            } else {
+                break;
+            }
+            firstFile += 2;
+        }
+        if (firstFile < args.length && args[firstFile].startsWith("--")) {
+            System.err.println("Usage: java shadowtaxi.AllocationBudget [--warmup frames] [--limit bytes] "
+                    + "[--event-limit bytes] [recording...]");
+            System.exit(1);
+        }
+
+        if (!isFirstTierOnly()) {
+            System.err.println("Run the allocation budget with -XX:TieredStopAtLevel=1, so that every frame is "
+                    + "measured without the optimizing compiler");
+            System.exit(1);
+        }
+
+        GameConfig config = GameFixtures.loadConfig();
+        AllocationBudget budget = new AllocationBudget(warmupFrames, limitBytes, eventLimitBytes);
+        boolean isWithinBudget = true;
+        if (firstFile == args.length) {
+            int frames = budget.playDriven(config);
+            isWithinBudget = budget.report("driven session", frames);
+            if (frames < config.getMaxFrames()) {
+                System.out.printf("driven session: ended at frame %d of %d, the autopilot lost the game%n",
+                        frames, config.getMaxFrames());
+                isWithinBudget = false;
+            }
+        }
+        for (int i = firstFile; i < args.length; i++) {
+            InputRecording recording = InputRecording.read(args[i]);
+            int frames = budget.playRecording(config, recording);
+            isWithinBudget &= budget.report(args[i], frames);
+        }
+        System.exit(isWithinBudget ? 0 : 1);
+    }
+
+    /**
+     * Check if the virtual machine runs no code with the optimizing tier of the compiler.
+     * @return true if only the interpreter and the first tier of the compiler run code, false otherwise.
+     */
+    private static boolean isFirstTierOnly() {
+        HotSpotDiagnosticMXBean diagnostics = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+        return Boolean.parseBoolean(diagnostics.getVMOption("TieredCompilation").getValue())
+                && Integer.parseInt(diagnostics.getVMOption("TieredStopAtLevel").getValue()) <= 1;
+    }
+
+    /**
+     * Play a recording back into a new game world, until the game finishes or the recorded frames run out.
+     * @param config The game configuration.
+     * @param recording The recording.
+     * @return The number of frames played.
+     */
+    private int playRecording(GameConfig config, InputRecording recording) {
+        GameWorld world = new GameWorld(config, recording.getSeed());
+        startSession();
+        for (int run = 0; run < recording.getRunCount(); run++) {
+            InputSnapshot controls = recording.getRunControls(run);
+            for (int frame = 0; frame < recording.getRunLength(run); frame++) {
+                if (playFrame(world, controls)) {
+                    return world.getCurrFrame();
+                }
+            }
+        }
+        return world.getCurrFrame();
+    }
+
+    /**
+     * Play a session with a fixed seed driven by the autopilot, until the game finishes. The autopilot picks the
+     * controls of a frame before the frame is measured.
+     * @param config The game configuration.
+     * @return The number of frames played.
+     */
+    private int playDriven(GameConfig config) {
+        GameWorld world = new GameWorld(config, SCRIPTED_SEED);
+        Autopilot autopilot = new Autopilot(config);
+        startSession();
+        while (!playFrame(world, autopilot.next(world))) {
+            // the autopilot drives until the game finishes
+        }
+        return world.getCurrFrame();
+    }
+
+    private void startSession() {
+        steadyFrames = 0;
+        overLimitFrames = 0;
+        worstBytes = 0;
+        worstFrame = -1;
+        eventFrames = 0;
+        eventBytes = 0;
+        worstEventBytes = 0;
+        worstEventFrame = -1;
+        overEventLimitFrames = 0;
+    }
+
+    /**
+     * Update the game world and queue its drawing, measuring the memory allocated once the warm-up is over.
+     * @param world The game world.
+     * @param controls The controls of the frame.
+     * @return true if the game has finished.
+     */
+    private boolean playFrame(GameWorld world, InputSnapshot controls) {
+        long loadedBefore = CLASSES.getTotalLoadedClassCount();
+        long before = THREADS.getThreadAllocatedBytes(THREAD_ID);
+        boolean isFinished = world.update(controls);
+        QUEUE.clear();
+        world.draw(QUEUE);
+        long allocated = THREADS.getThreadAllocatedBytes(THREAD_ID) - before;
+
+        int frame = world.getCurrFrame();
+        if (frame <= WARMUP_FRAMES) {
+            return isFinished;
+        }
+        if (world.isEventFrame() || CLASSES.getTotalLoadedClassCount() != loadedBefore) {
+            eventFrames++;
+            eventBytes += allocated;
+            if (allocated > EVENT_LIMIT_BYTES && ++overEventLimitFrames == 1) {
+                System.out.printf("event frame %d allocated %d B, over the event limit of %d B%n", frame, allocated,
+                        EVENT_LIMIT_BYTES);
+            }
+            if (allocated > worstEventBytes) {
+                worstEventBytes = allocated;
+                worstEventFrame = frame;
+            }
+            return isFinished;
+        }
+
+        steadyFrames++;
+        if (allocated > LIMIT_BYTES) {
+            overLimitFrames++;
+            if (overLimitFrames == 1) {
+                System.out.printf("frame %d allocated %d B, over the limit of %d B%n", frame, allocated, LIMIT_BYTES);
+            }
+        }
+        if (allocated > worstBytes) {
+            worstBytes = allocated;
+            worstFrame = frame;
+        }
+        return isFinished;
+    }
+
+    /**
+     * Print the measurements of a session and check its steady and event frames against their limits.
+     * @param name The name of the session.
+     * @param frames The number of frames played.
+     * @return true if no frame of the session allocated more than its limit.
+     */
+    private boolean report(String name, int frames) {
+        boolean isWithinBudget = overLimitFrames == 0;
+        boolean isWithinEventBudget = overEventLimitFrames == 0;
+        System.out.printf("%s: %d frames, %d steady frames measured, worst %d B at frame %d, %d over the limit of "
+                        + "%d B: %s%n", name, frames, steadyFrames, worstBytes, worstFrame, overLimitFrames,
+                LIMIT_BYTES, isWithinBudget ? "within budget" : "OVER BUDGET");
+        System.out.printf("%s: %d event frames measured, %d B in total, worst %d B at frame %d, %d over the limit of "
+                        + "%d B: %s%n", name, eventFrames, eventBytes, worstEventBytes, worstEventFrame,
+                overEventLimitFrames, EVENT_LIMIT_BYTES, isWithinEventBudget ? "within budget" : "OVER BUDGET");
+        return isWithinBudget && isWithinEventBudget;
+    }
+}
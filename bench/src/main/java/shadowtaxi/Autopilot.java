@@ -0,0 +1,171 @@
+package shadowtaxi;
+
+import java.util.ArrayList;
+
+/**
+ * Drives the taxi through a game session the way a careful player would with the keyboard, so a session can be played
+ * without anyone at the controls. It holds the up key while the lane ahead is clear and changes to a clear lane when it
+ * is not, stops next to a waiting passenger until they get in, stops now and then during a trip so the trip ends once
+ * the drop-off is reached, and walks the driver back to the new taxi when the taxi is destroyed.
+ * Passengers are only picked up until half of the target is earned, so the level is not completed and the session
+ * lasts until its time is up.
+ */
+final class Autopilot {
+    // how far ahead and behind the taxi a car or a fireball blocks its lane
+    private static final int LOOKAHEAD_Y = 400;
+    private static final int CAR_CLEARANCE_X = 80;
+    private static final int FIREBALL_CLEARANCE_X = 60;
+    // how far ahead a waiting passenger is driven to, and how far behind the taxi it is still waited for
+    private static final int PASSENGER_AHEAD_Y = 500;
+    private static final int PASSENGER_BEHIND_Y = 60;
+    // the taxi counts as in a lane within this distance of its center
+    private static final int LANE_TOLERANCE_X = 5;
+    // during a trip, the taxi stops for one frame this often
+    private static final int TRIP_STOP_FRAMES = 60;
+
+    private static final int UP = InputSnapshot.maskOf(Control.UP);
+    private static final int DOWN = InputSnapshot.maskOf(Control.DOWN);
+    private static final int LEFT = InputSnapshot.maskOf(Control.LEFT);
+    private static final int RIGHT = InputSnapshot.maskOf(Control.RIGHT);
+
+    private final GameConfig CONFIG;
+
+    // the controls held down in the last frame, which tell the presses and releases of the next one
+    private int downMask;
+
+    /**
+     * Constructor for the Autopilot class. The autopilot starts with no controls held down.
+     * @param config The game configuration holding the lanes of the road and the target earnings.
+     */
+    Autopilot(GameConfig config) {
+        this.CONFIG = config;
+    }
+
+    /**
+     * Pick the controls of the next frame of a game world.
+     * @param world The game world, before its next update.
+     * @return The controls of the next frame.
+     */
+    InputSnapshot next(GameWorld world) {
+        Taxi taxi = world.getTaxi();
+        Driver driver = world.getDriver();
+        int x = taxi.getX();
+        int y = taxi.getY();
+
+        if (!driver.isInTaxi()) {
+            // walk in line with the taxi first, so holding the up key does not scroll the taxi off the screen
+            if (driver.getX() != x) {
+                return hold(steer(driver.getX(), x));
+            }
+            return hold(y < driver.getY() ? UP : y > driver.getY() ? DOWN : 0);
+        }
+
+        if (taxi.getTrip() == null && world.getTotalEarnings() < CONFIG.getTarget() / 2) {
+            Passenger passenger = findWaitingPassenger(world, y);
+            if (passenger != null) {
+                int lane = nearestLane(passenger.getX());
+                boolean isInLane = Math.abs(lane - x) < LANE_TOLERANCE_X;
+                if (isInLane && Math.abs(passenger.getY() - y) < PASSENGER_BEHIND_Y) {
+                    return hold(0);
+                }
+                if (!isInLane && !isBlocked(world, lane, y)) {
+                    return hold((isBlocked(world, x, y) ? 0 : UP) | steer(x, lane));
+                }
+            }
+        } else if (taxi.getTrip() != null && world.getCurrFrame() % TRIP_STOP_FRAMES == 0) {
+            return hold(0);
+        }
+
+        if (!isBlocked(world, x, y)) {
+            return hold(UP);
+        }
+        int clearLane = -1;
+        for (int lane = 0; lane < CONFIG.getRoadLaneCount(); lane++) {
+            int laneX = CONFIG.getRoadLaneCenter(lane);
+            if (!isBlocked(world, laneX, y) && (clearLane < 0 || Math.abs(laneX - x) < Math.abs(clearLane - x))) {
+                clearLane = laneX;
+            }
+        }
+        return hold(clearLane < 0 ? 0 : steer(x, clearLane));
+    }
+
+    /**
+     * Find the waiting passenger closest ahead of the taxi.
+     * @param world The game world.
+     * @param y The y-coordinate of the taxi.
+     * @return The passenger, or null if no passenger is waiting near the taxi.
+     */
+    private Passenger findWaitingPassenger(GameWorld world, int y) {
+        ArrayList<Passenger> passengers = world.getLevelStreamer().getPassengers();
+        Passenger closest = null;
+        for (int i = 0; i < passengers.size(); i++) {
+            Passenger passenger = passengers.get(i);
+            // a passenger who can retire without having reached a flag has not been picked up yet
+            boolean isWaiting = !passenger.isInTaxi() && passenger.canRetire() && !passenger.hasReachedFlag();
+            int aheadY = y - passenger.getY();
+            if (isWaiting && aheadY > -PASSENGER_BEHIND_Y && aheadY < PASSENGER_AHEAD_Y
+                    && (closest == null || passenger.getY() > closest.getY())) {
+                closest = passenger;
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Check if a car or a fireball is in the way of the taxi at a position.
+     * @param world The game world.
+     * @param x The x-coordinate to check.
+     * @param y The y-coordinate of the taxi.
+     * @return true if the position is blocked, false otherwise.
+     */
+    private boolean isBlocked(GameWorld world, int x, int y) {
+        ArrayList<Car> cars = world.getTraffic().getCars();
+        for (int i = 0; i < cars.size(); i++) {
+            Car car = cars.get(i);
+            if (car.isDestroyed) {
+                continue;
+            }
+            if (Math.abs(car.getX() - x) < CAR_CLEARANCE_X && Math.abs(car.getY() - y) < LOOKAHEAD_Y) {
+                return true;
+            }
+            if (car instanceof EnemyCar) {
+                ArrayList<Fireball> fireballs = ((EnemyCar) car).getFireballs();
+                for (int j = 0; j < fireballs.size(); j++) {
+                    Fireball fireball = fireballs.get(j);
+                    if (!fireball.getHasCollided() && Math.abs(fireball.getX() - x) < FIREBALL_CLEARANCE_X
+                            && Math.abs(fireball.getY() - y) < LOOKAHEAD_Y) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private int nearestLane(int x) {
+        int nearest = CONFIG.getRoadLaneCenter(0);
+        for (int lane = 1; lane < CONFIG.getRoadLaneCount(); lane++) {
+            int laneX = CONFIG.getRoadLaneCenter(lane);
+            if (Math.abs(laneX - x) < Math.abs(nearest - x)) {
+                nearest = laneX;
+            }
+        }
+        return nearest;
+    }
+
+    private static int steer(int x, int targetX) {
+        return targetX < x ? LEFT : targetX > x ? RIGHT : 0;
+    }
+
+    /**
+     * Hold down a combination of controls for the next frame, pressing the controls which were up and releasing the
+     * ones no longer held, as a keyboard does.
+     * @param mask The controls to hold down.
+     * @return The controls of the next frame.
+     */
+    private InputSnapshot hold(int mask) {
+        InputSnapshot controls = InputSnapshot.of(mask, mask & ~downMask, downMask & ~mask);
+        downMask = mask;
+        return controls;
+    }
+}
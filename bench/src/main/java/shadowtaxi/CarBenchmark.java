@@ -0,0 +1,60 @@
+package shadowtaxi;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks one frame of updates of the other cars on the road. Cars which leave the play area are respawned, as the
+ * traffic manager does, so the road holds the same number of cars however long the benchmark runs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CarBenchmark {
+    @Param({"10", "100", "1000"})
+    private int carCount;
+
+    private Car[] cars;
+    private int playAreaTop;
+    private int playAreaBottom;
+
+    @Setup
+    public void setUp() {
+        GameConfig config = GameFixtures.loadConfig();
+        GameRandom random = new GameRandom(GameFixtures.SEED);
+        Camera camera = new Camera(config);
+        ColliderIds colliderIds = new ColliderIds();
+
+        cars = new Car[carCount];
+        for (int i = 0; i < carCount; i++) {
+            cars[i] = new Car(config, random, camera, colliderIds);
+        }
+        // the same play area as the traffic manager, one screen above and below the screen
+        playAreaTop = camera.toWorldY(-config.getWindowHeight());
+        playAreaBottom = camera.toWorldY(2 * config.getWindowHeight());
+    }
+
+    @Benchmark
+    public void update() {
+        for (Car car : cars) {
+            car.update();
+            if (car.canRetire(playAreaTop, playAreaBottom)) {
+                car.respawn();
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package shadowtaxi;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks reading a large game objects file of several megabytes: splitting every line into strings, as the game
+ * used to, against parsing the numbers in place with a CsvReader, and loading the whole level from the CSV files,
+ * against loading it from its compiled level file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvBenchmark {
+    // one in four game objects is a passenger, like in the level of the game
+    private static final int PASSENGER_SHARE = 4;
+
+    @Param({"100000"})
+    private int objectCount;
+
+    private Path directory;
+    private String objectsFile;
+    private String weatherFile;
+    private Path levelFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        GameConfig config = GameFixtures.loadConfig();
+        directory = Files.createTempDirectory("csv-benchmark");
+        objectsFile = directory.resolve("gameObjects.csv").toString();
+        weatherFile = config.getWeatherFile();
+        levelFile = directory.resolve("level.bin");
+
+        Random random = new Random(GameFixtures.SEED);
+        try (BufferedWriter out = Files.newBufferedWriter(Path.of(objectsFile))) {
+            for (int i = 0; i < objectCount; i++) {
+                int x = config.getRoadLaneCenter(random.nextInt(config.getRoadLaneCount()));
+                int y = -i * 20;
+                if (i % PASSENGER_SHARE == 0) {
+                    out.write(String.format("PASSENGER,%d,%d,%d,%d,%d", x, y, 1 + random.nextInt(3),
+                            config.getRoadLaneCenter(random.nextInt(config.getRoadLaneCount())),
+                            100 + random.nextInt(2000)));
+                } else if (i % 2 == 0) {
+                    out.write(String.format("COIN,%d,%d", x, y));
+                } else {
+                    out.write(String.format("INVINCIBLE_POWER,%d,%d", x, y));
+                }
+                out.newLine();
+            }
+        }
+        LevelFile.fromCsv(objectsFile, weatherFile).write(levelFile);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(levelFile);
+        Files.deleteIfExists(Path.of(objectsFile));
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public long splitLines() throws IOException {
+        long sum = 0;
+        ArrayList<String[]> lines = GameFixtures.splitLines(objectsFile);
+        for (String[] line : lines) {
+            sum += Integer.parseInt(line[1]) + Integer.parseInt(line[2]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long parseInPlace() throws IOException {
+        long sum = 0;
+        try (CsvReader reader = IOUtils.openCommaSeparatedFile(objectsFile)) {
+            while (reader.next()) {
+                sum += reader.getInt(1) + reader.getInt(2);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Level levelFromCsv() throws IOException {
+        return LevelFile.fromCsv(objectsFile, weatherFile).getLevel();
+    }
+
+    @Benchmark
+    public Level levelFromCompiledFile() throws IOException {
+        return LevelFile.read(levelFile).getLevel();
+    }
+}
@@ -0,0 +1,61 @@
+package shadowtaxi;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the fare calculations: the expected fee of every passenger of the level, as shown above each waiting
+ * passenger, and the total earnings of a taxi which has completed a trip with every one of them, as shown every frame.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FareBenchmark {
+    private TravelPlan[] travelPlans;
+    private Taxi taxi;
+
+    @Setup
+    public void setUp() {
+        GameConfig config = GameFixtures.loadConfig();
+        ColliderIds colliderIds = new ColliderIds();
+        Passenger[] passengers = GameFixtures.createPassengers(config, GameFixtures.loadLevel(config), colliderIds);
+        taxi = GameFixtures.createTaxi(config, 0, 0, passengers.length, colliderIds);
+
+        travelPlans = new TravelPlan[passengers.length];
+        for (int i = 0; i < passengers.length; i++) {
+            travelPlans[i] = passengers[i].getTravelPlan();
+            travelPlans[i].setStartY(passengers[i].getY());
+
+            Trip trip = new Trip(passengers[i], taxi, config);
+            taxi.setTrip(trip);
+            trip.end();
+        }
+    }
+
+    @Benchmark
+    public float expectedFees() {
+        float total = 0;
+        for (TravelPlan travelPlan : travelPlans) {
+            total += travelPlan.getExpectedFee();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public float totalEarnings() {
+        return taxi.calculateTotalEarnings();
+    }
+}
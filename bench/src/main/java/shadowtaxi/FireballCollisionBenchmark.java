@@ -0,0 +1,72 @@
+package shadowtaxi;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the collision sweep of a frame with many fireballs in the air. The fireballs are spread over the screen
+ * while the enemy cars which shot them, the taxi and the driver are kept away from them, so every fireball is put in
+ * the spatial hash and tested against its neighbours, but no collision changes the scene between frames.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FireballCollisionBenchmark {
+    private static final int FIREBALLS_PER_CAR = 10;
+    // far enough from the screen that nothing on the screen can touch them
+    private static final int FAR_AWAY_Y = -100_000;
+
+    @Param({"10", "100", "1000"})
+    private int fireballCount;
+
+    private ContactManager contacts;
+    private Taxi taxi;
+    private Driver driver;
+    private ArrayList<Car> cars;
+
+    @Setup
+    public void setUp() {
+        GameConfig config = GameFixtures.loadConfig();
+        GameRandom random = new GameRandom(GameFixtures.SEED);
+        Camera camera = new Camera(config);
+        contacts = new ContactManager(config);
+        ColliderIds colliderIds = new ColliderIds();
+
+        int x = config.getRoadLaneCenter(0);
+        driver = new Driver(x, -FAR_AWAY_Y, null, config, colliderIds);
+        taxi = new Taxi(x, -FAR_AWAY_Y, 0, config, driver, colliderIds);
+
+        cars = new ArrayList<>();
+        EnemyCar shooter = null;
+        for (int i = 0; i < fireballCount; i++) {
+            if (i % FIREBALLS_PER_CAR == 0) {
+                shooter = new EnemyCar(config, random, camera, colliderIds);
+                shooter.y = FAR_AWAY_Y;
+                cars.add(shooter);
+            }
+            int fireballX = random.nextInt(0, config.getWindowWidth());
+            int fireballY = camera.toWorldY(random.nextInt(0, config.getWindowHeight()));
+            shooter.getFireballs().add(new Fireball(fireballX, fireballY, shooter, config, colliderIds));
+        }
+    }
+
+    @Benchmark
+    public void sweep() {
+        contacts.update(taxi, driver, cars);
+    }
+}
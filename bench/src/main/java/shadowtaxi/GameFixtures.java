@@ -0,0 +1,89 @@
+package shadowtaxi;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+
+/**
+ * The game configuration and the level the benchmarks are set up from. The files are read from res/, so the
+ * benchmarks are run from the root of the repository.
+ */
+final class GameFixtures {
+    static final String PROPERTIES_FILE = "res/app.properties";
+    // a fixed seed, so every run of a benchmark plays with the same cars
+    static final long SEED = 0x5EEDL;
+
+    private GameFixtures() {
+    }
+
+    static GameConfig loadConfig() {
+        return new GameConfig(IOUtils.readPropertiesFile(PROPERTIES_FILE));
+    }
+
+    /**
+     * Read a comma-separated file by splitting every line into strings, as the game did before it streamed its files
+     * with a CsvReader. The benchmarks compare the game against it.
+     * @param file The path to the CSV file.
+     * @return The fields of every line of the file.
+     * @throws IOException if the file cannot be read.
+     */
+    static ArrayList<String[]> splitLines(String file) throws IOException {
+        ArrayList<String[]> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line.split(","));
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Read the level of the game from its CSV files, ignoring any compiled level file.
+     * @param config The game configuration holding the paths of the level files.
+     * @return The level.
+     */
+    static Level loadLevel(GameConfig config) {
+        try {
+            return LevelFile.fromCsv(config.getObjectsFile(), config.getWeatherFile()).getLevel();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the level, run the benchmarks from the repository root", e);
+        }
+    }
+
+    /**
+     * Create all the passengers of a level, as the game play does when they come within reach of the screen.
+     * @param config The game configuration.
+     * @param level The level.
+     * @param colliderIds The source of the collider identifiers of the game objects.
+     * @return The passengers, in the order of the level.
+     */
+    static Passenger[] createPassengers(GameConfig config, Level level, ColliderIds colliderIds) {
+        Passenger[] passengers = new Passenger[level.count(GameObjectType.PASSENGER)];
+        int count = 0;
+        for (int i = 0; i < level.size(); i++) {
+            if (level.getType(i) == GameObjectType.PASSENGER) {
+                passengers[count] = new Passenger(level.getX(i), level.getY(i), level.getPriority(i),
+                        level.getEndX(i), level.getDistanceY(i), config, colliderIds);
+                count++;
+            }
+        }
+        return passengers;
+    }
+
+    /**
+     * Create a taxi with its driver inside, as the game play does at the start.
+     * @param config The game configuration.
+     * @param x The x-coordinate of the taxi.
+     * @param y The y-coordinate of the taxi.
+     * @param maxTripCount The number of trips the taxi can make.
+     * @param colliderIds The source of the collider identifiers of the game objects.
+     * @return The taxi.
+     */
+    static Taxi createTaxi(GameConfig config, int x, int y, int maxTripCount, ColliderIds colliderIds) {
+        Driver driver = new Driver(x, y, null, config, colliderIds);
+        return new Taxi(x, y, maxTripCount, config, driver, colliderIds);
+    }
+}
@@ -0,0 +1,121 @@
+package shadowtaxi;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the distance checks of the collisions, testing every circle of a screen against every other: the
+ * square root distance check the game objects used before Geometry, against Geometry.isWithin and
+ * Geometry.circlesOverlap, and a loop of circlesOverlap calls writing the indices of the hits, against
+ * Geometry.findOverlaps over the same coordinate arrays, as the contact manager tests the candidates of a collider.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeometryBenchmark {
+    @Param({"16", "256"})
+    private int circleCount;
+
+    private int[] xs;
+    private int[] ys;
+    private float[] radii;
+    private int[] hits;
+
+    @Setup
+    public void setUp() {
+        GameConfig config = GameFixtures.loadConfig();
+        Random random = new Random(GameFixtures.SEED);
+
+        xs = new int[circleCount];
+        ys = new int[circleCount];
+        radii = new float[circleCount];
+        hits = new int[circleCount];
+        // the circles of the game objects on one screen, with the radii of the game
+        float maxRadius = config.getMaxCollisionRadius();
+        for (int i = 0; i < circleCount; i++) {
+            xs[i] = random.nextInt(config.getWindowWidth());
+            ys[i] = random.nextInt(config.getWindowHeight());
+            radii[i] = 10 + random.nextFloat() * (maxRadius - 10);
+        }
+    }
+
+    @Benchmark
+    public int sqrtDistance() {
+        int hitCount = 0;
+        for (int i = 0; i < circleCount; i++) {
+            for (int j = 0; j < circleCount; j++) {
+                double distance = Math.sqrt(Math.pow(xs[i] - xs[j], 2) + Math.pow(ys[i] - ys[j], 2));
+                if (distance <= radii[i] + radii[j]) {
+                    hitCount++;
+                }
+            }
+        }
+        return hitCount;
+    }
+
+    @Benchmark
+    public int isWithin() {
+        int hitCount = 0;
+        for (int i = 0; i < circleCount; i++) {
+            for (int j = 0; j < circleCount; j++) {
+                if (Geometry.isWithin(xs[i], ys[i], xs[j], ys[j], radii[i] + radii[j])) {
+                    hitCount++;
+                }
+            }
+        }
+        return hitCount;
+    }
+
+    @Benchmark
+    public int circlesOverlap() {
+        int hitCount = 0;
+        for (int i = 0; i < circleCount; i++) {
+            for (int j = 0; j < circleCount; j++) {
+                if (Geometry.circlesOverlap(xs[i], ys[i], radii[i], xs[j], ys[j], radii[j])) {
+                    hitCount++;
+                }
+            }
+        }
+        return hitCount;
+    }
+
+    @Benchmark
+    public int overlapLoop() {
+        int hitCount = 0;
+        for (int i = 0; i < circleCount; i++) {
+            int count = 0;
+            for (int j = 0; j < circleCount; j++) {
+                if (Geometry.circlesOverlap(xs[i], ys[i], radii[i], xs[j], ys[j], radii[j])) {
+                    hits[count] = j;
+                    count++;
+                }
+            }
+            hitCount += count;
+        }
+        return hitCount;
+    }
+
+    @Benchmark
+    public int findOverlaps() {
+        int hitCount = 0;
+        for (int i = 0; i < circleCount; i++) {
+            hitCount += Geometry.findOverlaps(xs[i], ys[i], radii[i], xs, ys, radii, circleCount, hits);
+        }
+        return hitCount;
+    }
+}
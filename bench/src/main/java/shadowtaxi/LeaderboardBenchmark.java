@@ -0,0 +1,112 @@
+package shadowtaxi;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks getting the top scores of a large scores file for the end screen: opening the leaderboard from its
+ * index, opening it without an index so the whole file is scanned, and reading and sorting every score as the end
+ * screen used to. Ranking a score, which the end screen also shows, is measured on an open leaderboard.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LeaderboardBenchmark {
+    private static final int TOP_SCORE_COUNT = 5;
+    private static final String INDEX_SUFFIX = ".idx";
+
+    @Param({"10000", "1000000"})
+    private int scoreCount;
+
+    private Path directory;
+    private String indexedFile;
+    private String unindexedFile;
+    private Leaderboard leaderboard;
+    private double rankedScore;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("leaderboard-benchmark");
+        indexedFile = directory.resolve("scores.csv").toString();
+        unindexedFile = directory.resolve("scores-unindexed.csv").toString();
+
+        Random random = new Random(GameFixtures.SEED);
+        try (BufferedWriter out = Files.newBufferedWriter(Path.of(indexedFile))) {
+            for (int i = 0; i < scoreCount; i++) {
+                out.write("player" + random.nextInt(1000) + "," + random.nextFloat() * 1000);
+                out.newLine();
+            }
+        }
+        Files.copy(Path.of(indexedFile), Path.of(unindexedFile));
+
+        leaderboard = Leaderboard.open(indexedFile, TOP_SCORE_COUNT);
+        rankedScore = random.nextFloat() * 1000;
+    }
+
+    /**
+     * Remove the index of the unindexed scores file, which opening the leaderboard of it has written.
+     */
+    @Setup(Level.Invocation)
+    public void removeIndex() throws IOException {
+        Files.deleteIfExists(Path.of(unindexedFile + INDEX_SUFFIX));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        leaderboard.close();
+        for (String file : new String[] {indexedFile, unindexedFile}) {
+            Files.deleteIfExists(Path.of(file));
+            Files.deleteIfExists(Path.of(file + INDEX_SUFFIX));
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public Score[] topScoresFromIndex() {
+        return Leaderboard.open(indexedFile, TOP_SCORE_COUNT).getTopScores();
+    }
+
+    @Benchmark
+    public Score[] topScoresFromScan() {
+        return Leaderboard.open(unindexedFile, TOP_SCORE_COUNT).getTopScores();
+    }
+
+    @Benchmark
+    public Score[] topScoresFromSort() throws IOException {
+        ArrayList<String[]> lines = GameFixtures.splitLines(indexedFile);
+        Score[] scores = new Score[lines.size()];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = new Score(lines.get(i)[0], Double.parseDouble(lines.get(i)[1]));
+        }
+        Arrays.sort(scores, (a, b) -> Double.compare(b.getScore(), a.getScore()));
+        return Arrays.copyOf(scores, Math.min(TOP_SCORE_COUNT, scores.length));
+    }
+
+    @Benchmark
+    public long rank() {
+        return leaderboard.getRank(rankedScore);
+    }
+}
@@ -0,0 +1,46 @@
+package shadowtaxi;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks one frame of updates of every passenger of the level in res/gameObjects.csv against the taxi. The taxi
+ * is parked off the road, so no passenger gets in and every frame does the same work.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PassengerBenchmark {
+    private static final int OFF_ROAD_X = -10_000;
+
+    private Passenger[] passengers;
+    private Taxi taxi;
+
+    @Setup
+    public void setUp() {
+        GameConfig config = GameFixtures.loadConfig();
+        ColliderIds colliderIds = new ColliderIds();
+        passengers = GameFixtures.createPassengers(config, GameFixtures.loadLevel(config), colliderIds);
+        taxi = GameFixtures.createTaxi(config, OFF_ROAD_X, 0, passengers.length, colliderIds);
+    }
+
+    @Benchmark
+    public void updateWithTaxi() {
+        for (Passenger passenger : passengers) {
+            passenger.updateWithTaxi(taxi);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package bagel;
+
+/**
+ * A headless stand-in for the game loop of bagel. No window is opened, and run returns straight away, so the
+ * benchmarks drive the game classes directly.
+ */
+public abstract class AbstractGame {
+
+    /**
+     * Constructor for the AbstractGame class.
+     * @param width The width of the window, which is not opened.
+     * @param height The height of the window, which is not opened.
+     * @param title The title of the window, which is not opened.
+     */
+    public AbstractGame(int width, int height, String title) {
+        Window.setSize(width, height);
+    }
+
+    /**
+     * Does nothing, as there is no window to run the game in.
+     */
+    public void run() {
+    }
+
+    /**
+     * Update the game by one frame.
+     * @param input The input of the frame.
+     */
+    protected abstract void update(Input input);
+}
@@ -0,0 +1,30 @@
+package bagel;
+
+/**
+ * A headless stand-in for the drawing options of bagel. Nothing is drawn, so the options are ignored.
+ */
+public class DrawOptions {
+
+    /**
+     * Set the colour images and text are tinted with.
+     * @param red The red component, from 0 to 1.
+     * @param green The green component, from 0 to 1.
+     * @param blue The blue component, from 0 to 1.
+     * @return These options.
+     */
+    public DrawOptions setBlendColour(double red, double green, double blue) {
+        return this;
+    }
+
+    /**
+     * Set the colour and the opacity images and text are tinted with.
+     * @param red The red component, from 0 to 1.
+     * @param green The green component, from 0 to 1.
+     * @param blue The blue component, from 0 to 1.
+     * @param alpha The opacity, from 0 to 1.
+     * @return These options.
+     */
+    public DrawOptions setBlendColour(double red, double green, double blue, double alpha) {
+        return this;
+    }
+}
@@ -0,0 +1,49 @@
+package bagel;
+
+/**
+ * A headless stand-in for the fonts of bagel. Text is never drawn, and its width is estimated from the font size, so
+ * code laying text out still gets sensible positions.
+ */
+public class Font {
+    // roughly the average advance of a character, relative to the font size
+    private static final double CHARACTER_WIDTH = 0.6;
+
+    private final double SIZE;
+
+    /**
+     * Constructor for the Font class. The font file is not read.
+     * @param fontFile The path to the font file.
+     * @param size The size of the font in pixels.
+     */
+    public Font(String fontFile, int size) {
+        this.SIZE = size;
+    }
+
+    /**
+     * Does nothing, as there is no window to draw on.
+     * @param text The text.
+     * @param x The x-coordinate of the start of the text.
+     * @param y The y-coordinate of the baseline of the text.
+     */
+    public void drawString(String text, double x, double y) {
+    }
+
+    /**
+     * Does nothing, as there is no window to draw on.
+     * @param text The text.
+     * @param x The x-coordinate of the start of the text.
+     * @param y The y-coordinate of the baseline of the text.
+     * @param options The drawing options.
+     */
+    public void drawString(String text, double x, double y, DrawOptions options) {
+    }
+
+    /**
+     * Estimate the width of a text.
+     * @param text The text.
+     * @return The width of the text in pixels.
+     */
+    public double getWidth(String text) {
+        return text.length() * SIZE * CHARACTER_WIDTH;
+    }
+}
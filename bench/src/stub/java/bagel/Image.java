@@ -0,0 +1,60 @@
+package bagel;
+
+import java.io.DataInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+/**
+ * A headless stand-in for the images of bagel. Images are never drawn, and only the size is read from the header of
+ * the PNG file, so code depending on the size of an image behaves as it does in the game.
+ */
+public class Image {
+    // the signature and the start of the header chunk, before the width and the height
+    private static final int SIZE_OFFSET = 16;
+
+    private final double WIDTH;
+    private final double HEIGHT;
+
+    /**
+     * Constructor for the Image class.
+     * @param imageFile The path to the PNG file.
+     */
+    public Image(String imageFile) {
+        int width = 0;
+        int height = 0;
+        try (DataInputStream in = new DataInputStream(new FileInputStream(imageFile))) {
+            in.skipNBytes(SIZE_OFFSET);
+            width = in.readInt();
+            height = in.readInt();
+        } catch (IOException e) {
+            // a missing image has no size, as nothing is drawn anyway
+        }
+        this.WIDTH = width;
+        this.HEIGHT = height;
+    }
+
+    /**
+     * Does nothing, as there is no window to draw on.
+     * @param x The x-coordinate of the centre of the image.
+     * @param y The y-coordinate of the centre of the image.
+     */
+    public void draw(double x, double y) {
+    }
+
+    /**
+     * Does nothing, as there is no window to draw on.
+     * @param x The x-coordinate of the centre of the image.
+     * @param y The y-coordinate of the centre of the image.
+     * @param options The drawing options.
+     */
+    public void draw(double x, double y, DrawOptions options) {
+    }
+
+    public double getWidth() {
+        return WIDTH;
+    }
+
+    public double getHeight() {
+        return HEIGHT;
+    }
+}
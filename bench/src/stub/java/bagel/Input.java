@@ -0,0 +1,43 @@
+package bagel;
+
+/**
+ * A headless stand-in for the input of bagel, where no key is ever pressed.
+ */
+public class Input {
+
+    /**
+     * Check if a key was pressed in this frame.
+     * @param key The key.
+     * @return false, as there is no keyboard.
+     */
+    public boolean wasPressed(Keys key) {
+        return false;
+    }
+
+    /**
+     * Check if a key was released in this frame.
+     * @param key The key.
+     * @return false, as there is no keyboard.
+     */
+    public boolean wasReleased(Keys key) {
+        return false;
+    }
+
+    /**
+     * Check if a key is held down.
+     * @param key The key.
+     * @return false, as there is no keyboard.
+     */
+    public boolean isDown(Keys key) {
+        return false;
+    }
+
+    /**
+     * Check if a key is up.
+     * @param key The key.
+     * @return true, as there is no keyboard.
+     */
+    public boolean isUp(Keys key) {
+        return true;
+    }
+}
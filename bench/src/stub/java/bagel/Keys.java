@@ -0,0 +1,11 @@
+package bagel;
+
+/**
+ * The keys of the keyboard used by the game, as named by bagel.
+ */
+public enum Keys {
+    A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z,
+    SPACE, ESCAPE, ENTER, TAB, BACKSPACE, DELETE,
+    LEFT, RIGHT, UP, DOWN,
+    F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12
+}
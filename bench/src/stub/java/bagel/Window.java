@@ -0,0 +1,28 @@
+package bagel;
+
+/**
+ * A headless stand-in for the window of bagel, which only remembers the size the game asked for.
+ */
+public class Window {
+    private static int width = 1024;
+    private static int height = 768;
+
+    static void setSize(int width, int height) {
+        Window.width = width;
+        Window.height = height;
+    }
+
+    /**
+     * Does nothing, as there is no window to close.
+     */
+    public static void close() {
+    }
+
+    public static int getWidth() {
+        return width;
+    }
+
+    public static int getHeight() {
+        return height;
+    }
+}
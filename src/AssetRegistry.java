@@ -0,0 +1,102 @@
+import bagel.Font;
+import bagel.Image;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * A process-wide registry of the textures and fonts used in the game.
+ * Each image file is decoded once, and every object drawing that file shares the same Image handle.
+ * Fonts are shared in the same way for each combination of font file and size. The fonts of a file are indexed by
+ * their size, so looking up a loaded font every frame allocates nothing.
+ */
+public class AssetRegistry {
+    // bagel uploads images as 8-bit RGBA textures
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private static final HashMap<String, Image> IMAGES = new HashMap<>();
+    // the fonts of each font file, at the index of their size
+    private static final HashMap<String, Font[]> FONTS = new HashMap<>();
+
+    private static long hits;
+    private static long misses;
+    private static long residentBytes;
+    private static int fontCount;
+
+    /**
+     * Get the shared image for the given file, loading it on the first request.
+     * @param file The path to the image file.
+     * @return The shared Image object for the file.
+     */
+    public static Image getImage(String file) {
+        Image image = IMAGES.get(file);
+        if (image != null) {
+            hits++;
+            return image;
+        }
+
+        misses++;
+        image = new Image(file);
+        residentBytes += (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL;
+        IMAGES.put(file, image);
+        return image;
+    }
+
+    /**
+     * Get the shared font for the given font file and size, loading it on the first request.
+     * @param file The path to the font file.
+     * @param size The font size.
+     * @return The shared Font object for the file and size.
+     */
+    public static Font getFont(String file, int size) {
+        Font[] fonts = FONTS.get(file);
+        if (fonts != null && size < fonts.length && fonts[size] != null) {
+            hits++;
+            return fonts[size];
+        }
+
+        misses++;
+        if (fonts == null) {
+            fonts = new Font[size + 1];
+        } else if (size >= fonts.length) {
+            fonts = Arrays.copyOf(fonts, size + 1);
+        }
+        Font font = new Font(file, size);
+        fonts[size] = font;
+        FONTS.put(file, fonts);
+        fontCount++;
+        return font;
+    }
+
+    /**
+     * Get the number of requests served by an already loaded image or font.
+     * @return The number of cache hits.
+     */
+    public static long getHits() {
+        return hits;
+    }
+
+    /**
+     * Get the number of requests which had to load an image or a font from the disk.
+     * @return The number of cache misses (image and font constructions).
+     */
+    public static long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Get the approximate texture memory held by the loaded images.
+     * @return The number of bytes used by the loaded images.
+     */
+    public static long getResidentBytes() {
+        return residentBytes;
+    }
+
+    public static int getImageCount() {
+        return IMAGES.size();
+    }
+
+    public static int getFontCount() {
+        return fontCount;
+    }
+}
@@ -1,100 +1,102 @@
-import bagel.Image;
-import bagel.Input;
-import bagel.Keys;
-
-import java.util.Properties;
-
-/**
- * A class representing the background of the game play.
- */
-public class Background {
-
-    private final int WINDOW_HEIGHT;
-    private Image IMAGE;
-    private final int SPEED_Y;
-    private final int x;
-    private int y;
-    private int moveY;
-
-    /**
-     * Creates a new Background object with specified coordinates, weather condition, and properties.
-     * @param x The x-coordinate of the background.
-     * @param y The y-coordinate of the background.
-     * @param weather The current weather condition.
-     * @param props The properties object containing background image and movement configurations.
-     */
-    public Background(int x, int y, String weather, Properties props) {
-        this.x = x;
-        this.y = y;
-        this.moveY = 0;
-
-        this.SPEED_Y = Integer.parseInt(props.getProperty("gameObjects.taxi.speedY"));
-        this.WINDOW_HEIGHT = Integer.parseInt(props.getProperty("window.height"));
-        if (weather.equals("SUNNY")) {
-            this.IMAGE = new Image(props.getProperty("backgroundImage.sunny"));
-        } else if (weather.equals("RAINING")) {
-            this.IMAGE = new Image(props.getProperty("backgroundImage.raining"));
-        }
-    }
-
-    /**
-     * Updates the background position and renders the image based on input.
-     * @param input The current mouse/keyboard input.
-     * @param background The current background object.
-     */
-    public void update(Input input, Background background) {
-        if(input != null) {
-            adjustToInputMovement(input);
-        }
-
-        move();
-        draw();
-
-        if (y >= WINDOW_HEIGHT * 1.5) {
-            y = background.getY() - WINDOW_HEIGHT;
-        }
-    }
-
-    /**
-     * Sets the weather condition by changing the background image.
-     * @param weather The current weather condition (SUNNY or RAINING).
-     * @param props The properties object containing the paths to background images.
-     */
-    public void setWeatherCondition(String weather, Properties props) {
-        if (weather.equals("SUNNY")) {
-            this.IMAGE = new Image(props.getProperty("backgroundImage.sunny"));
-        } else if (weather.equals("RAINING")) {
-            this.IMAGE = new Image(props.getProperty("backgroundImage.raining"));
-        }
-    }
-
-    /**
-     * Moves the background in the y-direction based on the speed.
-     */
-    public void move() {
-        this.y += SPEED_Y * moveY;
-    }
-
-    /**
-     * Draws the background image on the screen.
-     */
-    public void draw() {
-        IMAGE.draw(x, y);
-    }
-
-    /**
-     * Adjusts the movement direction of the background in the y-axis based on keyboard input.
-     * @param input The current mouse/keyboard input.
-     */
-    public void adjustToInputMovement(Input input) {
-        if (input.wasPressed(Keys.UP)) {
-            moveY = 1;
-        }  else if(input.wasReleased(Keys.UP)) {
-            moveY = 0;
-        }
-    }
-
-    public int getY() {
-        return y;
-    }
-}
+/**
+ * A class representing the background of the game play.
+ */
+public class Background {
+
+    private final int WINDOW_HEIGHT;
+    private final String SUNNY_IMAGE_FILE;
+    private final String RAINING_IMAGE_FILE;
+    private final int CROSSFADE_FRAMES;
+    private String imageFile;
+    private String previousImageFile;
+    private WeatherCondition weather;
+    private int fadeFrame;
+    private final int x;
+    private int y;
+
+    /**
+     * Creates a new Background object with specified coordinates, weather condition, and properties.
+     * @param x The x-coordinate of the background.
+     * @param y The y-coordinate of the background in the world.
+     * @param weather The current weather condition.
+     * @param config The game configuration containing background image and movement settings.
+     */
+    public Background(int x, int y, WeatherCondition weather, GameConfig config) {
+        this.x = x;
+        this.y = y;
+
+        this.WINDOW_HEIGHT = config.getWindowHeight();
+
+        this.SUNNY_IMAGE_FILE = config.getBackgroundSunnyImage();
+        this.RAINING_IMAGE_FILE = config.getBackgroundRainingImage();
+        this.CROSSFADE_FRAMES = config.getBackgroundCrossfadeFrames();
+
+        this.weather = weather;
+        this.imageFile = getWeatherImageFile(weather);
+    }
+
+    /**
+     * Updates the crossfade, and moves the background above the other background once it has scrolled below the
+     * screen.
+     * @param camera The camera of the game play.
+     * @param background The other background object.
+     */
+    public void update(Camera camera, Background background) {
+        if (previousImageFile != null) {
+            fadeFrame++;
+            if (fadeFrame >= CROSSFADE_FRAMES) {
+                previousImageFile = null;
+            }
+        }
+
+        if (camera.toScreenY(y) >= WINDOW_HEIGHT * 1.5) {
+            y = background.getY() - WINDOW_HEIGHT;
+        }
+    }
+
+    /**
+     * Sets the weather condition. The background image is only swapped when the weather actually changes,
+     * and the new image fades in over the configured number of crossfade frames.
+     * @param weather The current weather condition (SUNNY or RAINING).
+     */
+    public void setWeatherCondition(WeatherCondition weather) {
+        if (weather == this.weather) {
+            return;
+        }
+
+        this.weather = weather;
+        this.previousImageFile = imageFile;
+        this.imageFile = getWeatherImageFile(weather);
+        // the first update after the swap moves the crossfade to its first step
+        this.fadeFrame = -1;
+    }
+
+    /**
+     * Get the background image file for a weather condition.
+     * @param weather The weather condition (SUNNY or RAINING).
+     * @return The path to the background image.
+     */
+    private String getWeatherImageFile(WeatherCondition weather) {
+        if (weather == WeatherCondition.RAINING) {
+            return RAINING_IMAGE_FILE;
+        }
+        return SUNNY_IMAGE_FILE;
+    }
+
+    /**
+     * Adds the background image to the render queue, over the previous image while the crossfade is running.
+     * @param queue The render queue of the current frame.
+     */
+    public void draw(RenderQueue queue) {
+        if (previousImageFile != null) {
+            queue.drawImage(previousImageFile, x, y);
+            queue.drawImage(imageFile, x, y, (fadeFrame + 1.0) / (CROSSFADE_FRAMES + 1.0));
+        } else {
+            queue.drawImage(imageFile, x, y);
+        }
+    }
+
+    public int getY() {
+        return y;
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * The camera of the game play. The game objects are placed in world coordinates, which do not change when the road
+ * scrolls. Scrolling only advances the y offset of the camera, which is applied when the game objects are drawn, so
+ * the objects lying on the road have nothing to update while the taxi drives.
+ * A world y-coordinate is shown at the screen y-coordinate worldY + offsetY.
+ */
+public class Camera {
+    private final int SCROLL_SPEED;
+    private final int VIEW_HEIGHT;
+
+    private boolean isScrolling;
+    private int scrollY;
+    private int offsetY;
+
+    /**
+     * Constructor for the Camera class. The camera starts with the world and the screen coordinates lined up.
+     * @param config The game configuration containing the window height and the scrolling speed of the taxi.
+     */
+    public Camera(GameConfig config) {
+        this.SCROLL_SPEED = config.getTaxiSpeedY();
+        this.VIEW_HEIGHT = config.getWindowHeight();
+    }
+
+    /**
+     * Advance the camera by one frame. The road starts scrolling when the up control is pressed and stops when it
+     * is released.
+     * @param input The controls of the current frame.
+     */
+    public void update(ControlInput input) {
+        if (input != null) {
+            if (input.wasPressed(Control.UP)) {
+                isScrolling = true;
+            } else if (input.wasReleased(Control.UP)) {
+                isScrolling = false;
+            }
+        }
+
+        scrollY = isScrolling ? SCROLL_SPEED : 0;
+        offsetY += scrollY;
+    }
+
+    /**
+     * Convert a world y-coordinate to the screen.
+     * @param worldY The y-coordinate in the world.
+     * @return The y-coordinate on the screen.
+     */
+    public double toScreenY(double worldY) {
+        return worldY + offsetY;
+    }
+
+    /**
+     * Convert a screen y-coordinate to the world, used to place objects at a position on the screen.
+     * @param screenY The y-coordinate on the screen.
+     * @return The y-coordinate in the world.
+     */
+    public int toWorldY(int screenY) {
+        return screenY - offsetY;
+    }
+
+    /**
+     * Check if an object in the world can be seen on the screen.
+     * @param worldY The y-coordinate of the center of the object in the world.
+     * @param halfHeight Half of the height of the object.
+     * @return True if a part of the object is on the screen, false otherwise.
+     */
+    public boolean isVisible(double worldY, double halfHeight) {
+        double screenY = toScreenY(worldY);
+        return screenY + halfHeight >= 0 && screenY - halfHeight <= VIEW_HEIGHT;
+    }
+
+    /**
+     * Get the distance the road has scrolled in the current frame. Objects which keep their place on the screen,
+     * such as the driven taxi, move up in the world by this distance.
+     * @return The scrolled distance of the current frame.
+     */
+    public int getScrollY() {
+        return scrollY;
+    }
+
+    public int getOffsetY() {
+        return offsetY;
+    }
+
+    public boolean isScrolling() {
+        return isScrolling;
+    }
+}
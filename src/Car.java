@@ -1,24 +1,11 @@
-import bagel.Image;
-import bagel.Input;
-import bagel.Keys;
-
-import java.util.ArrayList;
-import java.util.Properties;
-
 /**
  * A class representing a Car in the game, including its movement, collision, and damage behaviors.
  */
 public class Car extends Entity {
 
 	// Constants for random car generation
-	private static final int MIN_CAR_NO = 1;
-	private static final int MAX_CAR_NO = 3;
 	private static final int CAR_YVAL1 = -50;
 	private static final int CAR_YVAL2 = 768;
-	private static final int CAR_XVAL1 = 1;
-	private static final int CAR_XVAL2 = 4;
-	private static final int MIN_CAR_SPEED = 2;
-	private static final int MAX_CAR_SPEED = 5;
 
 	// Public (protected) attributes for EnemyCar child class
 	/**
@@ -27,14 +14,14 @@ public class Car extends Entity {
 	public int x;
 
 	/**
-	 * The y-coordinate of the car.
+	 * The y-coordinate of the car in the world.
 	 */
 	public int y;
 
 	/**
-	 * The image representing the car.
+	 * The path to the image representing the car.
 	 */
-	public Image IMAGE;
+	public String IMAGE_FILE;
 
 	/**
 	 * The health points of the car.
@@ -51,12 +38,12 @@ public class Car extends Entity {
 	 */
 	public boolean isDestroyed;
 
-	private final Properties props;
-	private final int TAXI_SPEED_Y;
+	private final GameConfig config;
+	private final GameRandom random;
+	private final Camera CAMERA;
 	private final boolean isInvincible;
 	private final float RADIUS;
 	private int speedY;
-	private int moveY;
 
 	private int crashDirection;
 	private boolean isCollided;
@@ -68,57 +55,93 @@ public class Car extends Entity {
 
 	/**
 	 * Creates a new Car object with randomized coordinates, speed, and image.
-	 * @param props The properties object containing car settings.
+	 * @param config The game configuration containing car settings.
+	 * @param random The random stream used for the coordinates, speed, and image of the car.
+	 * @param camera The camera of the game play, used to spawn the car at the top or the bottom of the screen.
+	 * @param colliderIds The source of the collider identifiers of the game world.
 	 */
-	public Car(Properties props) {
-		this.props = props;
-		this.TAXI_SPEED_Y = Integer.parseInt(props.getProperty("gameObjects.taxi.speedY"));
-		this.health = Double.parseDouble(props.getProperty("gameObjects.otherCar.health"));
-		this.attackPoints = Double.parseDouble(props.getProperty("gameObjects.otherCar.damage"));
-		this.RADIUS = Float.parseFloat(props.getProperty("gameObjects.otherCar.radius"));
-		collisionFrames = 0;
+	public Car(GameConfig config, GameRandom random, Camera camera, ColliderIds colliderIds) {
+		super(colliderIds);
+		this.config = config;
+		this.random = random;
+		this.CAMERA = camera;
+		this.RADIUS = config.getOtherCarRadius();
 		isInvincible = false;
+		fire = new Fire(config);
+		smoke = new Smoke(config);
 
-		// Randomly set car image
-		int carNumber = MiscUtils.getRandomInt(MIN_CAR_NO, MAX_CAR_NO);
-		String carImagePath = String.format("res/otherCar-%d.png", carNumber);
-		this.IMAGE = new Image(carImagePath);
-
-		// Randomly set the coordinates of the car
-		this.y = MiscUtils.selectAValue(CAR_YVAL1, CAR_YVAL2);
-		int xVal = MiscUtils.getRandomInt(CAR_XVAL1, CAR_XVAL2);
-		if (xVal == 1) {
-			this.x = Integer.parseInt(props.getProperty("roadLaneCenter1"));
-		} else if (xVal == 2) {
-			this.x = Integer.parseInt(props.getProperty("roadLaneCenter2"));
-		} else {
-			this.x = Integer.parseInt(props.getProperty("roadLaneCenter3"));
-		}
+		randomize();
+	}
 
-		this.speedY = MiscUtils.getRandomInt(MIN_CAR_SPEED, MAX_CAR_SPEED);
+	/**
+	 * Prepares a retired car to be spawned again, clearing its damage and collision state and giving it new
+	 * randomized coordinates, speed, and image.
+	 */
+	public void respawn() {
+		isDestroyed = false;
+		isCollided = false;
+		crashDirection = 0;
+		fireRendered = false;
+		smokeRendered = false;
+
+		randomize();
 	}
 
 	/**
-	 * Draws the car on the screen.
+	 * Sets the health, attack points, and the randomized coordinates, speed, and image of the car.
 	 */
-	public void draw() {
-		IMAGE.draw(x, y);
+	private void randomize() {
+		this.health = config.getOtherCarHealth();
+		this.attackPoints = config.getOtherCarDamage();
+		collisionFrames = 0;
+
+		// Randomly set car image
+		int carNumber = random.nextInt(1, config.getOtherCarTypes() + 1);
+		this.IMAGE_FILE = config.getOtherCarImage(carNumber);
+
+		// Randomly set the coordinates of the car, just above or below the screen as it was before the road scrolled
+		// in this frame, so a new car moves down with the road in its first frame
+		this.y = CAMERA.toWorldY(random.selectAValue(CAR_YVAL1, CAR_YVAL2)) + CAMERA.getScrollY();
+		this.x = config.getRoadLaneCenter(random.nextInt(0, config.getRoadLaneCount()));
+
+		this.speedY = random.nextInt(config.getOtherCarMinSpeedY(), config.getOtherCarMaxSpeedY());
+
+		if (GameEvents.SPAWN.isEnabled()) {
+			SpawnEvent event = new SpawnEvent();
+			event.entity = getClass().getSimpleName();
+			event.x = x;
+			event.y = y;
+			event.commit();
+		}
 	}
 
 	/**
-	 * Updates the car's state, including movement, collision detection, and rendering fire/smoke.
-	 * @param input The current mouse/keyboard input.
-	 * @param taxi The player's taxi object.
-	 * @param driver The driver object.
-	 * @param cars The list of other cars in the game.
+	 * Adds the car and its fire and smoke effects to the render queue.
+	 * @param queue The render queue of the current frame.
 	 */
-	public void update(Input input, Taxi taxi, Driver driver, ArrayList<Car> cars) {
-		if (isDestroyed && collisionFrames < 190) {
+	public void draw(RenderQueue queue) {
+		if (!isCollidable()) {
 			return;
 		}
 
-		if(input != null) {
-			adjustToInputMovement(input);
+		queue.drawImage(IMAGE_FILE, x, y);
+
+		if (fireRendered) {
+			fire.draw(queue);
+		}
+
+		if (smokeRendered) {
+			smoke.draw(queue);
+		}
+	}
+
+	/**
+	 * Updates the car's state, including movement and fire/smoke. The collisions of the car are handled by the
+	 * ContactManager.
+	 */
+	public void update() {
+		if (!isCollidable()) {
+			return;
 		}
 
 		if (isCollided) {
@@ -127,110 +150,53 @@ public class Car extends Entity {
 
 			if (collisionFrames <= 0) {
 				isCollided = false;
-				this.speedY = MiscUtils.getRandomInt(MIN_CAR_SPEED, MAX_CAR_SPEED);
+				this.speedY = random.nextInt(config.getOtherCarMinSpeedY(), config.getOtherCarMaxSpeedY());
 			}
 		}
 
 		move();
-		draw();
-
-		if (fireRendered && fire.getFramesActive() > 0) {
-			fire.update(input);
-		}
 
-		if (smokeRendered && smoke.getFramesActive() > 0) {
-			smoke.update(input);
+		if (fireRendered) {
+			fire.update();
 		}
 
-		if (!driver.isInTaxi()) {
-			collide(driver);
-		}
-
-		if (taxi.getTrip() != null) {
-			Passenger passenger = taxi.getPassenger();
-			collide(passenger);
-		}
-
-		collide(taxi);
-
-		if (cars != null) {
-			for (Car car : cars) {
-				if (cars.indexOf(this) != cars.indexOf(car)) {
-					if (!this.isDestroyed && !car.isDestroyed) {
-						collide(car);
-					}
-				}
-			}
+		if (smokeRendered) {
+			smoke.update();
 		}
 	}
 
 	/**
-	 * Moves the car in the y-direction based on its speed and collision state.
+	 * Checks if the car still takes part in the game play. A destroyed car stops once its collision movement is over.
+	 * @return True if the car is updated and can collide, false otherwise.
 	 */
-	public void move() {
-		if (isCollided) {
-			this.y += (TAXI_SPEED_Y * moveY);
-		} else {
-			this.y += (TAXI_SPEED_Y * moveY) - speedY;
-		}
+	public boolean isCollidable() {
+		return !isDestroyed || collisionFrames >= NON_COLLISIONMOVE_FRAMES;
 	}
 
 	/**
-	 * Adjusts the car's movement in the y-axis based on keyboard input.
-	 * @param input The current mouse/keyboard input.
+	 * Checks if the car can be retired, either because it has left the play area or because it has been destroyed
+	 * and its fire effect is finished.
+	 * @param playAreaTop The smallest world y-coordinate inside the play area.
+	 * @param playAreaBottom The largest world y-coordinate inside the play area.
+	 * @return True if the car no longer takes part in the game play, false otherwise.
 	 */
-	private void adjustToInputMovement(Input input) {
-		if (input.isDown(Keys.UP)) {
-			moveY = 1;
-		} else if (input.isUp(Keys.UP)) {
-			moveY = 0;
+	public boolean canRetire(int playAreaTop, int playAreaBottom) {
+		if (y < playAreaTop || y > playAreaBottom) {
+			return true;
 		}
+		// a destroyed car stops updating once its collision movement is over
+		return isDestroyed && (collisionFrames < NON_COLLISIONMOVE_FRAMES || !fireRendered || fire.getFramesActive() <= 0);
 	}
 
 	/**
-	 * Checks if the car has collided with another entity based on their radii.
-	 * @param entity The entity to check for collision.
-	 * @return True if the car has collided with the entity, false otherwise.
+	 * Moves the car up the road based on its speed, unless it is being pushed by a collision.
 	 */
-	public boolean hasCollidedWith(Entity entity) {
-		float collisionDistance = RADIUS + entity.getRadius();
-		float currDistance = (float) Math.sqrt(Math.pow(x - entity.getX(), 2) + Math.pow(y - entity.getY(), 2));
-		return currDistance <= collisionDistance;
-	}
-
-	/**
-	 * Handles the collision between the car and another entity, applying damage and updating states.
-	 * @param entity The entity to collide with.
-	 */
-	public void collide(Entity entity) {
-		if (hasCollidedWith(entity)) {
-			entity.setIsCollided();
-			this.setIsCollided();
-
-			if (entity.getY() > this.y) {
-				crashDirection = UP;
-				entity.setCrashDirection(DOWN);
-			} else {
-				crashDirection = DOWN;
-				entity.setCrashDirection(UP);
-			}
-
-			if (collisionFrames <= 0) {
-				this.takeDamage(entity.getAttackPoints());
-				this.resetCollisionFrames();
-			}
-
-			if (entity.getCollisionFrames() <= 0) {
-				if (!entity.getIsInvincible()) {
-					entity.takeDamage(this.attackPoints);
-					entity.resetCollisionFrames();
-				}
-			}
+	public void move() {
+		if (!isCollided) {
+			this.y -= speedY;
 		}
 	}
 
-
-
 	/**
 	 * Reduces the car's health by the specified damage value. If the health reaches zero, the car is destroyed.
 	 * @param damage The damage to be applied to the car.
@@ -239,10 +205,10 @@ public class Car extends Entity {
 		this.health -= damage;
 		if (health <= 0) {
 			isDestroyed = true;
-			fire = new Fire(this.x, this.y, props);
+			fire.start(this.x, this.y);
 			fireRendered = true;
 		} else {
-			smoke = new Smoke(this.x, this.y, props);
+			smoke.start(this.x, this.y);
 			smokeRendered = true;
 		}
 	}
@@ -0,0 +1,16 @@
+/**
+ * Interface for game objects which take part in circle collisions.
+ * A collider is a circle with its center at the position of the object.
+ */
+public interface Collider {
+    int getX();
+    int getY();
+    float getRadius();
+
+    /**
+     * Get the identifier of the collider, which is unique within its game world. A car spawned again from its pool
+     * keeps the identifier it was created with.
+     * @return The collider identifier.
+     */
+    int getColliderId();
+}
@@ -0,0 +1,21 @@
+/**
+ * The source of the collider identifiers of one game world. Every world numbers its colliders from 0 in the order
+ * they are created, so the identifiers, and the order collisions are resolved in, do not depend on the other worlds
+ * created in the same program, such as earlier replays.
+ */
+public class ColliderIds {
+    private int nextId;
+
+    /**
+     * Get a new identifier for a collider. The identifiers are unique within the game world and give every pair of
+     * colliders a stable key.
+     * @return The new collider identifier.
+     */
+    public int next() {
+        return nextId++;
+    }
+
+    public int getIssuedCount() {
+        return nextId;
+    }
+}
@@ -0,0 +1,36 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for a collision resolved by the contact manager, with the damage each side took. Damage is
+ * 0 when the collision timeout or the invincible power protected the entity. A collision is resolved in every frame
+ * its two objects touch, and only the first of those frames is a new contact.
+ */
+@Name("shadowtaxi.Collision")
+@Label("Collision")
+@Category("Shadow Taxi")
+@Description("A collision between two game objects resolved")
+@Enabled(false)
+@StackTrace(false)
+public class CollisionEvent extends Event {
+    @Label("First Entity")
+    String first;
+
+    @Label("Second Entity")
+    String second;
+
+    @Label("Damage To First")
+    double firstDamage;
+
+    @Label("Damage To Second")
+    double secondDamage;
+
+    @Label("New Contact")
+    @Description("Whether the two objects were not touching in the last frame")
+    boolean newContact;
+}
@@ -0,0 +1,25 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for two game objects which stopped touching, or whose contact ended because one of them
+ * left the game play. The objects are given by their collider ids, since they may no longer be in the game.
+ */
+@Name("shadowtaxi.ContactExit")
+@Label("Contact Exit")
+@Category("Shadow Taxi")
+@Description("A contact between two game objects ended")
+@Enabled(false)
+@StackTrace(false)
+public class ContactExitEvent extends Event {
+    @Label("First Collider Id")
+    int firstId;
+
+    @Label("Second Collider Id")
+    int secondId;
+}
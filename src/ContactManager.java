@@ -0,0 +1,382 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * A class resolving the collisions between the taxi, the driver, the passenger, the cars and the fireballs once per
+ * frame. Every candidate pair from the spatial hash is visited exactly once, and the pairs which are touching are kept
+ * in a contact set, so each frame knows which contacts have just started, continued or ended. The counts are shown by
+ * the profiler overlay and the frame event, each collision event tells whether its contact has just started, and every
+ * contact which ends gets a contact exit event.
+ * The damage of a collision and the collision timeout are applied here for every kind of entity.
+ */
+public class ContactManager {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final SpatialHash<Collider> GRID;
+    private final ArrayList<Collider> COLLIDERS;
+
+    // the candidates of the collider being resolved which it can collide with, and their circles for the overlap test
+    private Collider[] candidates;
+    private int[] candidateXs;
+    private int[] candidateYs;
+    private float[] candidateRadii;
+    private int[] hits;
+
+    // contacts are stored as sorted pair keys, the lower collider id in the high half
+    private long[] contacts;
+    private int contactCount;
+    private long[] previousContacts;
+    private int previousContactCount;
+
+    private int enterCount;
+    private int stayCount;
+    private int exitCount;
+    // contacts ended by a collider leaving the game play since the last update
+    private int removedCount;
+    private int pairTests;
+
+    /**
+     * Constructor for the ContactManager class.
+     * @param config The game configuration containing the collision radii.
+     */
+    public ContactManager(GameConfig config) {
+        // the grid is built after every object has moved, so no slack is needed
+        this.GRID = new SpatialHash<>(2 * config.getMaxCollisionRadius(), 0);
+        this.COLLIDERS = new ArrayList<>(INITIAL_CAPACITY);
+        this.contacts = new long[INITIAL_CAPACITY];
+        this.previousContacts = new long[INITIAL_CAPACITY];
+        this.candidates = new Collider[INITIAL_CAPACITY];
+        this.candidateXs = new int[INITIAL_CAPACITY];
+        this.candidateYs = new int[INITIAL_CAPACITY];
+        this.candidateRadii = new float[INITIAL_CAPACITY];
+        this.hits = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Find and resolve all the collisions of this frame.
+     * @param taxi The player's taxi object.
+     * @param driver The driver object.
+     * @param cars The live cars in the game, including the enemy cars.
+     */
+    public void update(Taxi taxi, Driver driver, ArrayList<Car> cars) {
+        gatherColliders(taxi, driver, cars);
+
+        long[] swap = previousContacts;
+        previousContacts = contacts;
+        previousContactCount = contactCount;
+        contacts = swap;
+        contactCount = 0;
+        enterCount = 0;
+        stayCount = 0;
+        pairTests = 0;
+
+        for (int i = 0; i < COLLIDERS.size(); i++) {
+            Collider first = COLLIDERS.get(i);
+            int candidateCount = gatherCandidates(first);
+            pairTests += candidateCount;
+            int hitCount = Geometry.findOverlaps(first.getX(), first.getY(), first.getRadius(), candidateXs,
+                    candidateYs, candidateRadii, candidateCount, hits);
+            for (int j = 0; j < hitCount; j++) {
+                Collider second = candidates[hits[j]];
+                // an earlier collision of this frame may have destroyed one of the two
+                if (canCollide(first, second)) {
+                    boolean isNewContact = addContact(first, second);
+                    resolve(first, second, isNewContact);
+                }
+            }
+        }
+
+        Arrays.sort(contacts, 0, contactCount);
+        exitCount = removedCount;
+        removedCount = 0;
+        findExits();
+    }
+
+    /**
+     * Count the contacts of the last frame which are not in the contact set of this frame, and emit an exit event for
+     * each of them. Both sets are sorted, so they are walked side by side.
+     */
+    private void findExits() {
+        int current = 0;
+        for (int i = 0; i < previousContactCount; i++) {
+            long key = previousContacts[i];
+            while (current < contactCount && contacts[current] < key) {
+                current++;
+            }
+            if (current == contactCount || contacts[current] != key) {
+                exitCount++;
+                recordExit(key);
+            }
+        }
+    }
+
+    /**
+     * End every contact of a collider which leaves the game play, such as a car moved back to its pool. A pooled car
+     * keeps its collider id when it is spawned again, so it must not start its next life in the contacts of the last
+     * one. The contacts ended here are counted as exits by the next update.
+     * @param collider The collider leaving the game play.
+     */
+    public void removeContacts(Collider collider) {
+        int id = collider.getColliderId();
+        int keptCount = 0;
+        for (int i = 0; i < contactCount; i++) {
+            long key = contacts[i];
+            if ((int) (key >>> 32) == id || (int) key == id) {
+                removedCount++;
+                recordExit(key);
+            } else {
+                contacts[keptCount] = key;
+                keptCount++;
+            }
+        }
+        contactCount = keptCount;
+    }
+
+    /**
+     * Place every object which can collide in this frame in the spatial hash.
+     */
+    private void gatherColliders(Taxi taxi, Driver driver, ArrayList<Car> cars) {
+        COLLIDERS.clear();
+        GRID.clear();
+
+        addCollider(taxi);
+        if (!driver.isInTaxi()) {
+            addCollider(driver);
+        }
+        if (taxi.getTrip() != null) {
+            addCollider(taxi.getPassenger());
+        }
+
+        for (int i = 0; i < cars.size(); i++) {
+            Car car = cars.get(i);
+            if (car.isCollidable()) {
+                addCollider(car);
+            }
+
+            if (car instanceof EnemyCar) {
+                ArrayList<Fireball> fireballs = ((EnemyCar) car).getFireballs();
+                for (int j = 0; j < fireballs.size(); j++) {
+                    Fireball fireball = fireballs.get(j);
+                    if (!fireball.getHasCollided()) {
+                        addCollider(fireball);
+                    }
+                }
+            }
+        }
+    }
+
+    private void addCollider(Collider collider) {
+        COLLIDERS.add(collider);
+        GRID.insert(collider);
+    }
+
+    /**
+     * Copy the colliders near a collider which it can collide with into the candidate arrays, in the order of the
+     * spatial hash.
+     * @param first The collider being resolved.
+     * @return The number of candidates.
+     */
+    private int gatherCandidates(Collider first) {
+        ArrayList<Collider> nearby = GRID.query(first.getX(), first.getY(), first.getRadius());
+        if (nearby.size() > candidates.length) {
+            int capacity = Math.max(nearby.size(), candidates.length * 2);
+            candidates = Arrays.copyOf(candidates, capacity);
+            candidateXs = Arrays.copyOf(candidateXs, capacity);
+            candidateYs = Arrays.copyOf(candidateYs, capacity);
+            candidateRadii = Arrays.copyOf(candidateRadii, capacity);
+            hits = Arrays.copyOf(hits, capacity);
+        }
+
+        int candidateCount = 0;
+        for (int j = 0; j < nearby.size(); j++) {
+            Collider second = nearby.get(j);
+            // each pair is found from both of its colliders, but only handled from the one with the lower id
+            if (second.getColliderId() <= first.getColliderId() || !canCollide(first, second)) {
+                continue;
+            }
+            candidates[candidateCount] = second;
+            candidateXs[candidateCount] = second.getX();
+            candidateYs[candidateCount] = second.getY();
+            candidateRadii[candidateCount] = second.getRadius();
+            candidateCount++;
+        }
+        return candidateCount;
+    }
+
+    /**
+     * Check if two colliders take part in collisions with each other.
+     * Cars crash into each other and into the taxi, the driver and the passenger, and fireballs hit all of them except
+     * the car which has shot them.
+     * @return True if the two colliders can collide, false otherwise.
+     */
+    private boolean canCollide(Collider first, Collider second) {
+        if (first instanceof Fireball) {
+            return canBeHit((Fireball) first, second);
+        }
+        if (second instanceof Fireball) {
+            return canBeHit((Fireball) second, first);
+        }
+        if (first instanceof Car && second instanceof Car) {
+            return !((Car) first).isDestroyed && !((Car) second).isDestroyed;
+        }
+        return first instanceof Car || second instanceof Car;
+    }
+
+    private boolean canBeHit(Fireball fireball, Collider target) {
+        if (target instanceof Car) {
+            Car car = (Car) target;
+            return car != fireball.getShooter() && !car.isDestroyed;
+        }
+        return target instanceof Entity;
+    }
+
+    /**
+     * Record a touching pair in the contact set of this frame, and count it as a new or a continued contact.
+     * @return True if the pair was not touching in the last frame, false otherwise.
+     */
+    private boolean addContact(Collider first, Collider second) {
+        long key = ((long) first.getColliderId() << 32) | second.getColliderId();
+        if (contactCount == contacts.length) {
+            contacts = Arrays.copyOf(contacts, contacts.length * 2);
+            previousContacts = Arrays.copyOf(previousContacts, contacts.length);
+        }
+        contacts[contactCount] = key;
+        contactCount++;
+
+        if (Arrays.binarySearch(previousContacts, 0, previousContactCount, key) >= 0) {
+            stayCount++;
+            return false;
+        }
+        enterCount++;
+        return true;
+    }
+
+    /**
+     * Apply the effects of a collision to both colliders.
+     */
+    private void resolve(Collider first, Collider second, boolean isNewContact) {
+        if (first instanceof Fireball) {
+            resolveHit((Fireball) first, (Entity) second, isNewContact);
+        } else if (second instanceof Fireball) {
+            resolveHit((Fireball) second, (Entity) first, isNewContact);
+        } else if (first instanceof Car) {
+            resolveCrash((Car) first, (Entity) second, isNewContact);
+        } else {
+            resolveCrash((Car) second, (Entity) first, isNewContact);
+        }
+    }
+
+    /**
+     * Crash a car into another entity. Both are pushed away from each other and damage each other.
+     * @param car The car crashing into the entity.
+     * @param entity The entity the car has crashed into.
+     * @param isNewContact Whether the car and the entity have just started touching.
+     */
+    private void resolveCrash(Car car, Entity entity, boolean isNewContact) {
+        entity.setIsCollided();
+        car.setIsCollided();
+
+        if (entity.getY() > car.getY()) {
+            car.setCrashDirection(Entity.UP);
+            entity.setCrashDirection(Entity.DOWN);
+        } else {
+            car.setCrashDirection(Entity.DOWN);
+            entity.setCrashDirection(Entity.UP);
+        }
+
+        double carDamage = applyDamage(car, entity.getAttackPoints(), true);
+        double entityDamage = applyDamage(entity, car.getAttackPoints(), true);
+        recordCollision(car, entity, carDamage, entityDamage, isNewContact);
+    }
+
+    /**
+     * Hit an entity with a fireball. The entity is pushed away from the fireball and takes its damage.
+     * @param fireball The fireball hitting the entity.
+     * @param entity The entity hit by the fireball.
+     * @param isNewContact Whether the fireball and the entity have just started touching.
+     */
+    private void resolveHit(Fireball fireball, Entity entity, boolean isNewContact) {
+        entity.setIsCollided();
+        fireball.setHasCollided();
+
+        if (entity.getY() > fireball.getY()) {
+            entity.setCrashDirection(Entity.DOWN);
+        } else {
+            entity.setCrashDirection(Entity.UP);
+        }
+
+        // fireballs burn through the invincible power
+        double damage = applyDamage(entity, fireball.getAttackPoints(), false);
+        recordCollision(fireball, entity, 0, damage, isNewContact);
+    }
+
+    /**
+     * Emit a Flight Recorder event for a resolved collision, if the event is enabled.
+     */
+    private static void recordCollision(Collider first, Collider second, double firstDamage, double secondDamage,
+                                        boolean isNewContact) {
+        if (!GameEvents.COLLISION.isEnabled()) {
+            return;
+        }
+        CollisionEvent event = new CollisionEvent();
+        event.first = first.getClass().getSimpleName();
+        event.second = second.getClass().getSimpleName();
+        event.firstDamage = firstDamage;
+        event.secondDamage = secondDamage;
+        event.newContact = isNewContact;
+        event.commit();
+    }
+
+    /**
+     * Emit a Flight Recorder event for a contact which has ended, if the event is enabled.
+     */
+    private static void recordExit(long key) {
+        if (!GameEvents.CONTACT_EXIT.isEnabled()) {
+            return;
+        }
+        ContactExitEvent event = new ContactExitEvent();
+        event.firstId = (int) (key >>> 32);
+        event.secondId = (int) key;
+        event.commit();
+    }
+
+    /**
+     * Damage an entity unless its collision timeout is still running, and restart the timeout.
+     * @param entity The entity to damage.
+     * @param damage The amount of damage.
+     * @param blockedByInvincibility Whether an invincible entity is protected from the damage.
+     * @return The damage the entity took, 0 if it was protected.
+     */
+    private double applyDamage(Entity entity, double damage, boolean blockedByInvincibility) {
+        if (entity.getCollisionFrames() > 0 || (blockedByInvincibility && entity.getIsInvincible())) {
+            return 0;
+        }
+        entity.takeDamage(damage);
+        entity.resetCollisionFrames();
+        return damage;
+    }
+
+    public int getContactCount() {
+        return contactCount;
+    }
+
+    public int getEnterCount() {
+        return enterCount;
+    }
+
+    public int getStayCount() {
+        return stayCount;
+    }
+
+    public int getExitCount() {
+        return exitCount;
+    }
+
+    /**
+     * Get the number of candidate pairs from the spatial hash tested for overlap in the last update.
+     * @return The number of pair tests of the last update.
+     */
+    public int getPairTests() {
+        return pairTests;
+    }
+}
@@ -0,0 +1,9 @@
+/**
+ * The keys which control the game play.
+ */
+public enum Control {
+    UP,
+    DOWN,
+    LEFT,
+    RIGHT
+}
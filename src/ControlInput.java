@@ -0,0 +1,26 @@
+/**
+ * The state of the game play controls in the current frame.
+ * The game play reads its input through this interface, so it does not depend on the window or the input library.
+ */
+public interface ControlInput {
+    /**
+     * Check if a control is held down in the current frame.
+     * @param control The control to check.
+     * @return True if the control is down, false otherwise.
+     */
+    boolean isDown(Control control);
+
+    /**
+     * Check if a control has been pressed in the current frame.
+     * @param control The control to check.
+     * @return True if the control was pressed, false otherwise.
+     */
+    boolean wasPressed(Control control);
+
+    /**
+     * Check if a control has been released in the current frame.
+     * @param control The control to check.
+     * @return True if the control was released, false otherwise.
+     */
+    boolean wasReleased(Control control);
+}
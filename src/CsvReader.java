@@ -0,0 +1,320 @@
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A streaming reader of comma-separated input, which scans the bytes of a memory-mapped file one line at a time.
+ * The fields of the current line are kept as positions in the file, and are decoded straight from its bytes into
+ * ints, floats, doubles and enum constants, so reading a file creates no String for each line or field.
+ * Blank lines are skipped, and the fields of a line may be padded with spaces. Malformed fields are reported with the
+ * name of the file and the number of the line.
+ */
+public class CsvReader implements AutoCloseable {
+    private static final byte SEPARATOR = ',';
+    private static final int INITIAL_FIELD_CAPACITY = 8;
+    // the largest number of digits a long can hold without overflowing
+    private static final int MAX_LONG_DIGITS = 18;
+    // mantissas below these bounds and the powers of ten below are exact, so one division gives the correctly rounded
+    // value, the same as Float.parseFloat and Double.parseDouble
+    private static final long MAX_EXACT_FLOAT = 1L << 24;
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+    private static final float[] FLOAT_POWERS_OF_TEN = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final String NAME;
+    private final ByteBuffer BUFFER;
+    private final int LIMIT;
+
+    private int position;
+    private int lineNumber;
+    private int fieldCount;
+    private int[] fieldStarts;
+    private int[] fieldEnds;
+
+    // the mantissa and the number of decimal places of the last decimal field scanned
+    private long mantissa;
+    private int scale;
+    private boolean isWhole;
+
+    /**
+     * Constructor for the CsvReader class, which reads comma-separated lines from a buffer.
+     * @param buffer The bytes to read, from the position to the limit of the buffer.
+     * @param name The name of the input, used in error messages.
+     */
+    public CsvReader(ByteBuffer buffer, String name) {
+        this.NAME = name;
+        this.BUFFER = buffer;
+        this.LIMIT = buffer.limit();
+        this.position = buffer.position();
+        this.fieldStarts = new int[INITIAL_FIELD_CAPACITY];
+        this.fieldEnds = new int[INITIAL_FIELD_CAPACITY];
+
+        // skip the byte order mark some editors write at the start of UTF-8 files
+        if (LIMIT - position >= 3 && (BUFFER.get(position) & 0xFF) == 0xEF
+                && (BUFFER.get(position + 1) & 0xFF) == 0xBB && (BUFFER.get(position + 2) & 0xFF) == 0xBF) {
+            position += 3;
+        }
+    }
+
+    /**
+     * Advance to the next line which is not blank.
+     * @return true if there is a next line, false at the end of the input.
+     */
+    public boolean next() {
+        while (position < LIMIT) {
+            lineNumber++;
+            int lineStart = position;
+            int lineEnd = lineStart;
+            while (lineEnd < LIMIT && BUFFER.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            position = lineEnd + 1;
+            if (lineEnd > lineStart && BUFFER.get(lineEnd - 1) == '\r') {
+                lineEnd--;
+            }
+
+            if (!isBlank(lineStart, lineEnd)) {
+                splitFields(lineStart, lineEnd);
+                return true;
+            }
+        }
+        fieldCount = 0;
+        return false;
+    }
+
+    private boolean isBlank(int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!isSpace(BUFFER.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void splitFields(int lineStart, int lineEnd) {
+        fieldCount = 0;
+        int fieldStart = lineStart;
+        for (int i = lineStart; i <= lineEnd; i++) {
+            if (i == lineEnd || BUFFER.get(i) == SEPARATOR) {
+                if (fieldCount == fieldStarts.length) {
+                    fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+                    fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+                }
+                fieldStarts[fieldCount] = fieldStart;
+                fieldEnds[fieldCount] = i;
+                fieldCount++;
+                fieldStart = i + 1;
+            }
+        }
+    }
+
+    /**
+     * Decode a field of the current line as an int.
+     * @param field The index of the field, starting from 0.
+     * @return The value of the field.
+     * @throws IllegalArgumentException if the line has no such field, or the field is not an int.
+     */
+    public int getInt(int field) {
+        if (!scanDecimal(field) || !isWhole || mantissa < Integer.MIN_VALUE || mantissa > Integer.MAX_VALUE) {
+            throw error(String.format("field %d (%s) is not a whole number", field + 1, getString(field).trim()));
+        }
+        return (int) mantissa;
+    }
+
+    /**
+     * Decode a field of the current line as a float.
+     * @param field The index of the field, starting from 0.
+     * @return The value of the field, rounded the same way as Float.parseFloat.
+     * @throws IllegalArgumentException if the line has no such field, or the field is not a number.
+     */
+    public float getFloat(int field) {
+        if (scanDecimal(field) && Math.abs(mantissa) < MAX_EXACT_FLOAT && scale < FLOAT_POWERS_OF_TEN.length) {
+            return mantissa / FLOAT_POWERS_OF_TEN[scale];
+        }
+        try {
+            return Float.parseFloat(getString(field).trim());
+        } catch (NumberFormatException e) {
+            throw error(String.format("field %d (%s) is not a number", field + 1, getString(field).trim()));
+        }
+    }
+
+    /**
+     * Decode a field of the current line as a double.
+     * @param field The index of the field, starting from 0.
+     * @return The value of the field, rounded the same way as Double.parseDouble.
+     * @throws IllegalArgumentException if the line has no such field, or the field is not a number.
+     */
+    public double getDouble(int field) {
+        if (scanDecimal(field) && Math.abs(mantissa) < MAX_EXACT_DOUBLE && scale < DOUBLE_POWERS_OF_TEN.length) {
+            return mantissa / DOUBLE_POWERS_OF_TEN[scale];
+        }
+        try {
+            return Double.parseDouble(getString(field).trim());
+        } catch (NumberFormatException e) {
+            throw error(String.format("field %d (%s) is not a number", field + 1, getString(field).trim()));
+        }
+    }
+
+    /**
+     * Scan a field written as an optional sign, digits and an optional decimal point followed by more digits into the
+     * mantissa and the scale. Other forms, such as exponents, are left to the caller.
+     * @param field The index of the field, starting from 0.
+     * @return true if the field was scanned, false if it has another form or too many digits.
+     */
+    private boolean scanDecimal(int field) {
+        int start = trimmedStart(field);
+        int end = trimmedEnd(field);
+
+        boolean isNegative = false;
+        if (start < end && (BUFFER.get(start) == '-' || BUFFER.get(start) == '+')) {
+            isNegative = BUFFER.get(start) == '-';
+            start++;
+        }
+
+        long value = 0;
+        int digits = 0;
+        int decimalPoint = -1;
+        for (int i = start; i < end; i++) {
+            byte b = BUFFER.get(i);
+            if (b >= '0' && b <= '9') {
+                if (++digits > MAX_LONG_DIGITS) {
+                    return false;
+                }
+                value = value * 10 + (b - '0');
+            } else if (b == '.' && decimalPoint < 0) {
+                decimalPoint = i;
+            } else {
+                return false;
+            }
+        }
+        // negative zero is left to the caller, since the mantissa cannot hold its sign
+        if (digits == 0 || (isNegative && value == 0 && decimalPoint >= 0)) {
+            return false;
+        }
+
+        mantissa = isNegative ? -value : value;
+        scale = decimalPoint < 0 ? 0 : end - decimalPoint - 1;
+        isWhole = decimalPoint < 0;
+        return true;
+    }
+
+    /**
+     * Decode a field of the current line as one of the constants of an enum, matching the name of the constant.
+     * @param field The index of the field, starting from 0.
+     * @param values The constants of the enum.
+     * @param <E> The type of the enum.
+     * @return The constant named by the field.
+     * @throws IllegalArgumentException if the line has no such field, or the field names none of the constants.
+     */
+    public <E extends Enum<E>> E getEnum(int field, E[] values) {
+        E value = findEnum(field, values);
+        if (value == null) {
+            throw error(String.format("field %d (%s) is not one of %s", field + 1, getString(field).trim(),
+                    Arrays.toString(values)));
+        }
+        return value;
+    }
+
+    /**
+     * Find the constant of an enum named by a field of the current line.
+     * @param field The index of the field, starting from 0.
+     * @param values The constants of the enum.
+     * @param <E> The type of the enum.
+     * @return The constant named by the field, or null if the field names none of the constants.
+     * @throws IllegalArgumentException if the line has no such field.
+     */
+    public <E extends Enum<E>> E findEnum(int field, E[] values) {
+        int start = trimmedStart(field);
+        int length = trimmedEnd(field) - start;
+        for (E value : values) {
+            String name = value.name();
+            if (name.length() == length && matches(start, name)) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private boolean matches(int start, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (BUFFER.get(start + i) != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decode a field of the current line as text. Unlike the other fields, the text is not trimmed.
+     * @param field The index of the field, starting from 0.
+     * @return The text of the field.
+     * @throws IllegalArgumentException if the line has no such field.
+     */
+    public String getString(int field) {
+        checkField(field);
+        byte[] bytes = new byte[fieldEnds[field] - fieldStarts[field]];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = BUFFER.get(fieldStarts[field] + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int trimmedStart(int field) {
+        checkField(field);
+        int start = fieldStarts[field];
+        while (start < fieldEnds[field] && isSpace(BUFFER.get(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    private int trimmedEnd(int field) {
+        checkField(field);
+        int end = fieldEnds[field];
+        while (end > fieldStarts[field] && isSpace(BUFFER.get(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    private void checkField(int field) {
+        if (field < 0 || field >= fieldCount) {
+            throw error(String.format("expected at least %d fields, found %d", field + 1, fieldCount));
+        }
+    }
+
+    private static boolean isSpace(byte b) {
+        return b == ' ' || b == '\t';
+    }
+
+    /**
+     * Create an error about the current line, for problems found by the caller such as values out of range.
+     * @param message The description of the problem.
+     * @return The exception to throw, naming the file and the line.
+     */
+    public IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(String.format("%s, line %d: %s", NAME, lineNumber, message));
+    }
+
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Release the reader. The memory mapping is freed by the garbage collector once the reader is no longer used.
+     */
+    @Override
+    public void close() {
+        fieldCount = 0;
+        position = LIMIT;
+    }
+}
@@ -1,63 +1,56 @@
-import bagel.Image;
-import bagel.Input;
-import bagel.Keys;
-
 /**
- * Abstract class representing a damage effect in the game, providing shared movement and rendering logic.
+ * Abstract class representing a damage effect in the game, providing shared timing and rendering logic.
+ * The effect stays at the place on the road where the damage was taken. An object creates its effects once, and
+ * starts them each time it takes damage, so taking damage creates no objects.
  */
 public abstract class DamageEffect {
-	private final Image IMAGE;
-	private final int SPEED_Y;
+	private final String IMAGE_FILE;
+	private final int ACTIVE_FRAMES;
 	private int x;
 	private int y;
-	private int moveY;
 	private int framesActive;
+	private boolean isVisible;
 
 	/**
-	 * Constructor for the DamageEffect class, initializing the position, image, speed, and active frames.
-	 * @param x The x-coordinate of the effect.
-	 * @param y The y-coordinate of the effect.
-	 * @param image The image representing the effect.
-	 * @param speedY The speed of the effect in the y-direction.
-	 * @param framesActive The number of frames the effect remains active.
+	 * Constructor for the DamageEffect class, initializing the image and active frames. The effect is not active until
+	 * it is started.
+	 * @param imageFile The path to the image representing the effect.
+	 * @param activeFrames The number of frames the effect remains active once started.
 	 */
-	public DamageEffect(int x, int y, Image image, int speedY, int framesActive) {
-		this.x = x;
-		this.y = y;
-		this.IMAGE = image;
-		this.SPEED_Y = speedY;
-		this.framesActive = framesActive;
+	public DamageEffect(String imageFile, int activeFrames) {
+		this.IMAGE_FILE = imageFile;
+		this.ACTIVE_FRAMES = activeFrames;
 	}
 
 	/**
-	 * Abstract method for update logic, to be implemented by subclasses.
-	 * @param input The current mouse/keyboard input.
-	 */
-	public abstract void update(Input input);
-
-	/**
-	 * Moves the effect in the y-direction based on its speed.
+	 * Starts the effect at the place where the damage was taken, active for its full number of frames.
+	 * @param x The x-coordinate of the effect.
+	 * @param y The y-coordinate of the effect in the world.
 	 */
-	public void move() {
-		this.y += SPEED_Y * moveY;
+	public void start(int x, int y) {
+		this.x = x;
+		this.y = y;
+		this.framesActive = ACTIVE_FRAMES;
+		this.isVisible = false;
 	}
 
 	/**
-	 * Draws the effect's image on the screen.
+	 * Counts down the active frames of the effect. The effect is shown for the frames it has been active in.
 	 */
-	public void draw() {
-		IMAGE.draw(x, y);
+	public void update() {
+		isVisible = framesActive > 0;
+		if (isVisible) {
+			decrementFramesActive();
+		}
 	}
 
 	/**
-	 * Adjusts the movement of the effect based on keyboard input.
-	 * @param input The current mouse/keyboard input.
+	 * Adds the effect's image to the render queue if the effect was active in this frame.
+	 * @param queue The render queue of the current frame.
 	 */
-	public void adjustToInputMovement(Input input) {
-		if (input.wasPressed(Keys.UP)) {
-			moveY = 1;
-		} else if (input.wasReleased(Keys.UP)) {
-			moveY = 0;
+	public void draw(RenderQueue queue) {
+		if (isVisible) {
+			queue.drawImage(IMAGE_FILE, x, y);
 		}
 	}
 
@@ -1,58 +1,44 @@
-import bagel.Image;
-import bagel.Input;
-
-import java.util.Properties;
-
 /**
  * Class representing a damaged taxi in the game. The damaged taxi is not controllable by the player,
- * and it moves in a downward direction like other objects.
+ * and it stays on the road like other objects.
  */
 public class DamagedTaxi extends Taxi {
 
-	private final Image IMAGE;
+	private final String IMAGE_FILE;
 	private final int damagedX;
-	private int damagedY;
+	private final int damagedY;
 
 	/**
 	 * Creates a new DamagedTaxi object with specified coordinates, properties, and driver.
 	 * @param x The x-coordinate of the damaged taxi.
-	 * @param y The y-coordinate of the damaged taxi.
-	 * @param props The properties object containing taxi settings.
+	 * @param y The y-coordinate of the damaged taxi in the world.
+	 * @param config The game configuration containing taxi settings.
 	 * @param driver The driver associated with the taxi.
+	 * @param colliderIds The source of the collider identifiers of the game world.
 	 */
-	public DamagedTaxi(int x, int y, Properties props, Driver driver) {
-		super(x, y, 0, props, driver);
-		this.IMAGE = new Image(props.getProperty("gameObjects.taxi.damagedImage"));
+	public DamagedTaxi(int x, int y, GameConfig config, Driver driver, ColliderIds colliderIds) {
+		super(x, y, 0, config, driver, colliderIds);
+		this.IMAGE_FILE = config.getTaxiDamagedImage();
 		this.damagedX = x;
 		this.damagedY = y;
 		this.isDestroyed = true;
 	}
 
 	/**
-	 * Draws the damaged taxi on the screen at its current position.
+	 * Adds the damaged taxi at its current position to the render queue.
+	 * @param queue The render queue of the current frame.
 	 */
 	@Override
-	public void draw() {
-		IMAGE.draw(damagedX, damagedY);
+	public void draw(RenderQueue queue) {
+		queue.drawImage(IMAGE_FILE, damagedX, damagedY);
 	}
 
 	/**
-	 * Updates the state of the damaged taxi. Since it is not controllable, it only moves downward.
+	 * Since the damaged taxi is not controllable and stays where it was destroyed, it has nothing to update.
 	 * @param input The current mouse/keyboard input
+	 * @param camera The camera of the game play.
 	 */
 	@Override
-	public void update(Input input) {
-		adjustToInputMovement(input);
-		move();
-		draw();
-	}
-
-	/**
-	 * Moves the damaged taxi downward when it's in motion.
-	 */
-	public void move() {
-		if (isMovingY) {
-			this.damagedY += SPEED_Y;
-		}
+	public void update(ControlInput input, Camera camera) {
 	}
 }
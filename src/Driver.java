@@ -1,9 +1,3 @@
-import bagel.Image;
-import bagel.Input;
-import bagel.Keys;
-
-import java.util.Properties;
-
 /**
  * The class representing the driver in the game
  */
@@ -13,8 +7,8 @@ public class Driver extends Entity{
 	private static final int COLLISION_MOVE_Y = 2;
 	private static final int EJECT_X = 50;
 
-	private final Properties props;
-	private final Image IMAGE;
+	private final GameConfig config;
+	private final String IMAGE_FILE;
 	private final float radius;
 	private final int getInCarRadius;
 	private final int walkSpeedX;
@@ -45,22 +39,25 @@ public class Driver extends Entity{
 	 * @param startX          The starting x-coordinate.
 	 * @param startY          The starting y-coordinate.
 	 * @param taxi            The taxi the driver starts in.
-	 * @param props The file path to the driver's image.
+	 * @param config The game configuration containing driver settings.
+	 * @param colliderIds The source of the collider identifiers of the game world.
 	 */
-	public Driver(int startX, int startY, Taxi taxi, Properties props) {
-		this.props = props;
+	public Driver(int startX, int startY, Taxi taxi, GameConfig config, ColliderIds colliderIds) {
+		super(colliderIds);
+		this.config = config;
 		collisionFrames = 0;
 		isDead = false;
 		this.x = startX;
 		this.y = startY;
 		this.taxi = taxi;
-		this.IMAGE = new Image(props.getProperty("gameObjects.driver.image"));
+		this.IMAGE_FILE = config.getDriverImage();
 		this.inTaxi = true; // Driver starts the game in the taxi
-		this.radius = Float.parseFloat(props.getProperty("gameObjects.driver.radius"));
-		this.health = Double.parseDouble(props.getProperty("gameObjects.driver.health"));
-		this.getInCarRadius = Integer.parseInt(props.getProperty("gameObjects.driver.taxiGetInRadius"));
-		this.walkSpeedX = Integer.parseInt(props.getProperty("gameObjects.driver.walkSpeedX"));
-		this.walkSpeedY = Integer.parseInt(props.getProperty("gameObjects.driver.walkSpeedY"));
+		this.radius = config.getDriverRadius();
+		this.health = config.getDriverHealth();
+		this.getInCarRadius = config.getDriverTaxiGetInRadius();
+		this.walkSpeedX = config.getDriverWalkSpeedX();
+		this.walkSpeedY = config.getDriverWalkSpeedY();
+		this.blood = new Blood(config);
 	}
 
 	/**
@@ -68,7 +65,7 @@ public class Driver extends Entity{
 	 * @param input The current keyboard input.
 	 * @param taxi  The current taxi object.
 	 */
-	public void update(Input input, Taxi taxi) {
+	public void update(ControlInput input, Taxi taxi) {
 		this.taxi = taxi; // Update the taxi reference in case a new taxi is created
 
 		if (isCollided) {
@@ -113,8 +110,7 @@ public class Driver extends Entity{
 
 			// Check if close enough to taxi to get in
 			if (taxi != null) {
-				double distance = Math.hypot(x - taxi.getX(), y - taxi.getY());
-				if (distance <= getInCarRadius) {
+				if (Geometry.isWithin(x, y, taxi.getX(), taxi.getY(), getInCarRadius)) {
 					inTaxi = true;
 					taxi.isDestroyed = false;
 					taxi.setRenderedDamagedTaxi(false);
@@ -122,20 +118,22 @@ public class Driver extends Entity{
 			}
 		}
 
-		// Render the driver image if not in taxi
-		if (!inTaxi) {
-			if (bloodRendered && blood.getFramesActive() > 0) {
-				blood.update(input);
-			}
-			draw();
+		if (!inTaxi && bloodRendered) {
+			blood.update();
 		}
 	}
 
 	/**
-	 * Draws the driver image at the current coordinates.
+	 * Adds the driver image at the current coordinates to the render queue, if the driver is not in the taxi.
+	 * @param queue The render queue of the current frame.
 	 */
-	public void draw() {
-		IMAGE.draw(x, y);
+	public void draw(RenderQueue queue) {
+		if (!inTaxi) {
+			if (bloodRendered) {
+				blood.draw(queue);
+			}
+			queue.drawImage(IMAGE_FILE, x, y);
+		}
 	}
 
 	/**
@@ -151,22 +149,33 @@ public class Driver extends Entity{
 	 * Moves the driver based on user input when not in a taxi.
 	 * @param input The current keyboard input.
 	 */
-	private void move(Input input) {
+	private void move(ControlInput input) {
 		// Move at a speed of one pixel per frame in the direction of key press
-		if (input.isDown(Keys.UP)) {
+		if (input.isDown(Control.UP)) {
 			y -= walkSpeedY;
 		}
-		if (input.isDown(Keys.DOWN)) {
+		if (input.isDown(Control.DOWN)) {
 			y += walkSpeedY;
 		}
-		if (input.isDown(Keys.LEFT)) {
+		if (input.isDown(Control.LEFT)) {
 			x -= walkSpeedX;
 		}
-		if (input.isDown(Keys.RIGHT)) {
+		if (input.isDown(Control.RIGHT)) {
 			x += walkSpeedX;
 		}
 	}
 
+	/**
+	 * Keeps the driver on foot at the same place on the screen, by moving up the world as far as the camera has
+	 * scrolled. The driver only walks with the controls.
+	 * @param camera The camera of the game play.
+	 */
+	public void keepOnScreen(Camera camera) {
+		if (!inTaxi) {
+			y -= camera.getScrollY();
+		}
+	}
+
 	/**
 	 * Inflicts damage on the driver and checks if they are destroyed.
 	 * @param damage The amount of damage to inflict.
@@ -176,7 +185,7 @@ public class Driver extends Entity{
 		if (health <= 0) {
 			isDestroyed = true;
 			isDead = true;
-			blood = new Blood(this.x, this.y, props);
+			blood.start(this.x, this.y);
 			bloodRendered = true;
 		}
 	}
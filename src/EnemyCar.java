@@ -1,68 +1,124 @@
-import bagel.Image;
-import bagel.Input;
 import java.util.ArrayList;
-import java.util.Properties;
 
 /**
  * Class representing an enemy car in the game, capable of shooting fireballs.
  */
 public class EnemyCar extends Car{
 	private static final int FIREBALL_SPAWN_RATE = 400;
-	private final Properties props;
+	private final GameConfig config;
+	private final GameRandom random;
+	private final Camera camera;
+	private final ColliderIds colliderIds;
 	private ArrayList<Fireball> fireballs;
 
 	/**
 	 * Constructor for the EnemyCar class.
-	 * @param props The properties file containing enemy car configurations.
+	 * @param config The game configuration containing enemy car settings.
+	 * @param random The random stream used for the enemy car and its fireballs.
+	 * @param camera The camera of the game play.
+	 * @param colliderIds The source of the collider identifiers of the game world, also used for the fireballs.
 	 */
-	public EnemyCar(Properties props) {
-		super(props);
-		this.props = props;
+	public EnemyCar(GameConfig config, GameRandom random, Camera camera, ColliderIds colliderIds) {
+		super(config, random, camera, colliderIds);
+		this.config = config;
+		this.random = random;
+		this.camera = camera;
+		this.colliderIds = colliderIds;
 
-		this.IMAGE = new Image(props.getProperty("gameObjects.enemyCar.image"));
-		this.health = Double.parseDouble(props.getProperty("gameObjects.enemyCar.health"));
-		this.attackPoints = Double.parseDouble(props.getProperty("gameObjects.enemyCar.damage"));
+		this.IMAGE_FILE = config.getEnemyCarImage();
+		this.health = config.getEnemyCarHealth();
+		this.attackPoints = config.getEnemyCarDamage();
 
 		// Initialise fireballs list
 		fireballs = new ArrayList<>();
 	}
 
 	/**
-	 * Updates the enemy car's state, including shooting fireballs and handling collisions.
-	 * @param input  The current keyboard input.
-	 * @param taxi   The player's taxi object.
-	 * @param driver The driver object.
-	 * @param cars   The list of other cars in the game.
+	 * Prepares a retired enemy car to be spawned again, dropping its remaining fireballs.
 	 */
-	public void update(Input input, Taxi taxi, Driver driver, ArrayList<Car> cars) {
-		super.update(input, taxi, driver, cars);
+	@Override
+	public void respawn() {
+		super.respawn();
+		this.IMAGE_FILE = config.getEnemyCarImage();
+		this.health = config.getEnemyCarHealth();
+		this.attackPoints = config.getEnemyCarDamage();
+		fireballs.clear();
+	}
+
+	/**
+	 * Checks if the enemy car can be retired. An enemy car is kept while any of its fireballs are still flying.
+	 * @param playAreaTop The smallest world y-coordinate inside the play area.
+	 * @param playAreaBottom The largest world y-coordinate inside the play area.
+	 * @return True if the enemy car no longer takes part in the game play, false otherwise.
+	 */
+	@Override
+	public boolean canRetire(int playAreaTop, int playAreaBottom) {
+		return fireballs.isEmpty() && super.canRetire(playAreaTop, playAreaBottom);
+	}
+
+	/**
+	 * Updates the enemy car's state, including shooting fireballs and moving them.
+	 */
+	@Override
+	public void update() {
+		super.update();
 
 		if (!isDestroyed) {
 			shootFireball();
 		}
 
-		// Update and draw fireballs
+		// Update fireballs
 		if (fireballs != null) {
 			for (int i = fireballs.size() - 1; i >= 0; i--) {
 				Fireball fireball = fireballs.get(i);
 				if (!fireball.getHasCollided()) {
-					fireball.update(input, taxi, driver, cars, cars.indexOf(this));
+					fireball.update();
 				}
 
-				if (fireball.isOffScreen() || fireball.getHasCollided()) {
+				if (fireball.isOffScreen(camera) || fireball.getHasCollided()) {
 					fireballs.remove(i);
 				}
 			}
 		}
 	}
 
+	/**
+	 * Keeps the flying fireballs at their place on the screen while the road scrolls.
+	 * @param camera The camera of the game play.
+	 */
+	public void keepOnScreen(Camera camera) {
+		for (int i = 0; i < fireballs.size(); i++) {
+			fireballs.get(i).keepOnScreen(camera);
+		}
+	}
+
+	/**
+	 * Adds the enemy car and its flying fireballs to the render queue.
+	 * @param queue The render queue of the current frame.
+	 */
+	@Override
+	public void draw(RenderQueue queue) {
+		super.draw(queue);
+
+		for (int i = 0; i < fireballs.size(); i++) {
+			Fireball fireball = fireballs.get(i);
+			if (!fireball.getHasCollided()) {
+				fireball.draw(queue);
+			}
+		}
+	}
+
 	/**
 	 * Shoots a fireball from the enemy car if the spawn rate condition is met.
 	 */
 	private void shootFireball() {
-		if (MiscUtils.canSpawn(FIREBALL_SPAWN_RATE)) {
-			Fireball fireball = new Fireball(this.x, this.y, props);
+		if (random.canSpawn(FIREBALL_SPAWN_RATE)) {
+			Fireball fireball = new Fireball(this.x, this.y, this, config, colliderIds);
 			fireballs.add(fireball);
 		}
 	}
+
+	public ArrayList<Fireball> getFireballs() {
+		return fireballs;
+	}
 }
@@ -3,13 +3,23 @@
  * Different entities (such as cars, drivers, etc.) inherit from this class
  * and implement the required behavior for collisions, movement, and attacks.
  */
-public abstract class Entity {
+public abstract class Entity implements Collider {
 	// Constants for entity behavior
 	static final int UP = -1;
 	static final int DOWN = 1;
 	static final int RESET_FRAMES = 200;
 	static final int NON_COLLISIONMOVE_FRAMES = 190;
 
+	private final int COLLIDER_ID;
+
+	/**
+	 * Constructor for the Entity class.
+	 * @param colliderIds The source of the collider identifiers of the game world.
+	 */
+	protected Entity(ColliderIds colliderIds) {
+		this.COLLIDER_ID = colliderIds.next();
+	}
+
 	/**
 	 * Applies damage to the entity.
 	 * @param damage The amount of damage to apply.
@@ -36,4 +46,8 @@ public abstract class Entity {
 	public abstract int getCollisionFrames();
 	public abstract boolean getIsInvincible();
 
+	public int getColliderId() {
+		return COLLIDER_ID;
+	}
+
 }
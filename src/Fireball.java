@@ -1,18 +1,11 @@
-import bagel.Image;
-import bagel.Input;
-
-import java.util.ArrayList;
-import java.util.Properties;
-
 /**
  * Class representing a fireball that can be shot by enemy cars in the game.
  * The fireball moves, collides with entities, and can cause damage.
  */
-public class Fireball {
-	static final int UP = -1;
-	static final int DOWN = 1;
-
-	private final Image IMAGE;
+public class Fireball implements Collider {
+	private final String IMAGE_FILE;
+	private final Car SHOOTER;
+	private final int COLLIDER_ID;
 	private final int speedY;
 	private final float RADIUS;
 	private int x;
@@ -24,111 +17,105 @@ public class Fireball {
 	 * Constructor for the Fireball class.
 	 * @param x The x-coordinate where the fireball is spawned.
 	 * @param y The y-coordinate where the fireball is spawned.
-	 * @param props The properties object containing fireball configurations.
+	 * @param shooter The enemy car shooting the fireball, which the fireball cannot hit.
+	 * @param config The game configuration containing fireball settings.
+	 * @param colliderIds The source of the collider identifiers of the game world.
 	 */
-	public Fireball(int x, int y, Properties props) {
-		this.IMAGE = new Image(props.getProperty("gameObjects.fireball.image"));
+	public Fireball(int x, int y, Car shooter, GameConfig config, ColliderIds colliderIds) {
+		this.IMAGE_FILE = config.getFireballImage();
+		this.SHOOTER = shooter;
+		this.COLLIDER_ID = colliderIds.next();
 		this.x = x;
 		this.y = y;
-		this.speedY = Integer.parseInt(props.getProperty("gameObjects.fireball.shootSpeedY"));
-		this.RADIUS = Float.parseFloat(props.getProperty("gameObjects.fireball.radius"));
-		this.attackPoints = Double.parseDouble(props.getProperty("gameObjects.fireball.damage"));
+		this.speedY = config.getFireballSpeedY();
+		this.RADIUS = config.getFireballRadius();
+		this.attackPoints = config.getFireballDamage();
 		hasCollided = false;
-	}
 
-	/**
-	 * Updates the fireball's position, checks for collisions, and applies damage to entities if needed.
-	 * @param input The current keyboard/mouse input.
-	 * @param taxi The taxi object in the game.
-	 * @param driver The driver object.
-	 * @param cars The list of other cars in the game.
-	 * @param index The index of the enemy car shooting the fireball.
-	 */
-	public void update(Input input, Taxi taxi, Driver driver, ArrayList<Car> cars, int index) {
-		move();
-		draw();
-
-		if (!driver.isInTaxi()) {
-			collide(driver);
+		if (GameEvents.SPAWN.isEnabled()) {
+			SpawnEvent event = new SpawnEvent();
+			event.entity = getClass().getSimpleName();
+			event.x = x;
+			event.y = y;
+			event.commit();
 		}
-
-		if (taxi.getTrip() != null) {
-			Passenger passenger = taxi.getPassenger();
-			collide(passenger);
-		}
-
-		collide(taxi);
-
-		if (cars != null) {
-			for (Car car: cars) {
-				if (!car.isDestroyed && (index != cars.indexOf(car))) {
-					collide(car);
-				}
-			}
-		}
-
 	}
 
 	/**
-	 * Checks if the fireball has collided with an entity based on their radii.
-	 * @param entity The entity to check for collision.
-	 * @return True if the fireball has collided with the entity, false otherwise.
+	 * Updates the fireball's position. The collisions of the fireball are handled by the ContactManager.
 	 */
-	public boolean hasCollidedWith(Entity entity) {
-		// if the distance between the two objects is less than the sum of their radius, they are collided
-		float collisionDistance = RADIUS + entity.getRadius();
-		float currDistance = (float) Math.sqrt(Math.pow(x - entity.getX(), 2) + Math.pow(y - entity.getY(), 2));
-		return currDistance <= collisionDistance;
+	public void update() {
+		move();
 	}
 
 	/**
-	 * Handles the collision logic between the fireball and an entity, applying damage if applicable.
-	 * @param entity The entity the fireball has collided with.
+	 * Moves the fireball up the screen based on its speed.
 	 */
-	public void collide(Entity entity) {
-		if (hasCollidedWith(entity)) {
-			entity.setIsCollided();
-			hasCollided = true;
-
-			// Change crash directions for entity
-			if (entity.getY() > this.y) {
-				entity.setCrashDirection(DOWN);
-			} else {
-				entity.setCrashDirection(UP);
-			}
-
-			// Apply damage and collision movement if entity timeout isn't active/ entity isn't invincible
-			if (entity.getCollisionFrames() <= 0) {
-				entity.takeDamage(this.attackPoints);
-				entity.resetCollisionFrames();
-			}
-		}
+	public void move() {
+		this.y -= speedY;
 	}
 
 	/**
-	 * Moves the fireball in the y-direction based on its speed.
+	 * Keeps the fireball at its place on the screen, as it does not scroll with the road, by moving it up the world
+	 * as far as the camera has scrolled.
+	 * @param camera The camera of the game play.
 	 */
-	public void move() {
-		this.y -= speedY;
+	public void keepOnScreen(Camera camera) {
+		this.y -= camera.getScrollY();
 	}
 
 	/**
-	 * Draws the fireball at its current position on the screen.
+	 * Adds the fireball at its current position to the render queue.
+	 * @param queue The render queue of the current frame.
 	 */
-	public void draw() {
-		IMAGE.draw(x, y);
+	public void draw(RenderQueue queue) {
+		queue.drawImage(IMAGE_FILE, x, y);
 	}
 
 	/**
 	 * Checks if the fireball is off the screen.
+	 * @param camera The camera of the game play.
 	 * @return True if the fireball has moved off the screen, false otherwise.
 	 */
-	public boolean isOffScreen() {
-		return y + IMAGE.getHeight() / 2 < 0;
+	public boolean isOffScreen(Camera camera) {
+		// the fireball image fits within twice the collision radius of the fireball
+		return camera.toScreenY(y) + 2 * RADIUS < 0;
 	}
 
 
 	public boolean getHasCollided() {
 		return hasCollided;
 	}
+
+	public void setHasCollided() {
+		this.hasCollided = true;
+	}
+
+	public Car getShooter() {
+		return SHOOTER;
+	}
+
+	public double getAttackPoints() {
+		return attackPoints;
+	}
+
+	@Override
+	public int getX() {
+		return x;
+	}
+
+	@Override
+	public int getY() {
+		return y;
+	}
+
+	@Override
+	public float getRadius() {
+		return RADIUS;
+	}
+
+	@Override
+	public int getColliderId() {
+		return COLLIDER_ID;
+	}
 }
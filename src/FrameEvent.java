@@ -0,0 +1,54 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for one frame of the game play, lasting from the start of its update until its display is
+ * drawn, with the number of live game objects at the end of the frame and the number of strings the heads-up display
+ * composed in the frame, and the contacts between game objects.
+ */
+@Name("shadowtaxi.Frame")
+@Label("Frame")
+@Category("Shadow Taxi")
+@Description("A frame of the game play")
+@Enabled(false)
+@StackTrace(false)
+public class FrameEvent extends Event {
+    @Label("Frame")
+    int frame;
+
+    @Label("Passengers")
+    int passengers;
+
+    @Label("Coins")
+    int coins;
+
+    @Label("Invincible Powers")
+    int invinciblePowers;
+
+    @Label("Cars")
+    int cars;
+
+    @Label("Fireballs")
+    int fireballs;
+
+    @Label("Damaged Taxis")
+    int damagedTaxis;
+
+    @Label("Contacts")
+    int contacts;
+
+    @Label("Contacts Started")
+    int contactsStarted;
+
+    @Label("Contacts Ended")
+    int contactsEnded;
+
+    @Label("HUD Strings")
+    @Description("Strings composed by the heads-up display, 0 while no value shown changes")
+    int hudStrings;
+}
@@ -0,0 +1,22 @@
+/**
+ * The phases of a game play frame measured by the FrameProfiler. Each phase covers both the update and the drawing
+ * of its game objects; scrolling covers the camera and the objects which keep their place on the screen, and render
+ * covers drawing the render queue to the window. The damaged taxis stay on the road without updating, so their phase
+ * covers leaving a damaged taxi behind and placing the new taxi when the taxi is destroyed, and queueing the damaged
+ * taxis for drawing.
+ */
+public enum FramePhase {
+    SCROLLING,
+    SPAWNING,
+    BACKGROUNDS,
+    PASSENGERS,
+    TAXI,
+    DRIVER,
+    CARS,
+    DAMAGED_TAXIS,
+    COINS,
+    INVINCIBLE_POWERS,
+    POWER_UP_COLLISIONS,
+    RENDER,
+    HUD
+}
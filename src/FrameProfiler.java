@@ -0,0 +1,150 @@
+import java.util.Arrays;
+
+/**
+ * Measures where the time of each game play frame goes. A frame is split into phases by marks: each mark charges the
+ * time since the previous mark to a phase, so a phase can be measured in several parts, such as its update and its
+ * drawing. The time of every phase in the last frames is kept in a ring buffer, from which the median, the 99th
+ * percentile and the maximum are computed on request.
+ * The profiler is disabled by default, and while it is disabled a mark only checks a flag, so the marks can stay in
+ * the game loop.
+ */
+public class FrameProfiler {
+    // the number of frames the statistics cover, a power of two so the ring index wraps with a mask
+    private static final int WINDOW = 256;
+    private static final FramePhase[] PHASES = FramePhase.values();
+    // the whole frame is kept after the phases
+    private static final int FRAME_ROW = PHASES.length;
+
+    private final long[] PHASE_NANOS;
+    private final long[][] SAMPLES;
+    private final long[] SORT_BUFFER;
+    private final long[] MEDIAN_NANOS;
+    private final long[] P99_NANOS;
+    private final long[] MAX_NANOS;
+
+    private boolean isEnabled;
+    private long frameStartNanos;
+    private long lastMarkNanos;
+    private long frameCount;
+
+    /**
+     * Constructor for the FrameProfiler class, which creates a disabled profiler.
+     */
+    public FrameProfiler() {
+        this.PHASE_NANOS = new long[PHASES.length];
+        this.SAMPLES = new long[FRAME_ROW + 1][WINDOW];
+        this.SORT_BUFFER = new long[WINDOW];
+        this.MEDIAN_NANOS = new long[FRAME_ROW + 1];
+        this.P99_NANOS = new long[FRAME_ROW + 1];
+        this.MAX_NANOS = new long[FRAME_ROW + 1];
+    }
+
+    /**
+     * Enable or disable the profiler. The frames measured before it was last disabled are dropped when it is enabled.
+     * @param isEnabled Whether the frames are measured.
+     */
+    public void setEnabled(boolean isEnabled) {
+        if (isEnabled && !this.isEnabled) {
+            frameCount = 0;
+            Arrays.fill(PHASE_NANOS, 0);
+        }
+        this.isEnabled = isEnabled;
+    }
+
+    /**
+     * Start measuring a frame.
+     */
+    public void beginFrame() {
+        if (!isEnabled) {
+            return;
+        }
+        frameStartNanos = System.nanoTime();
+        lastMarkNanos = frameStartNanos;
+    }
+
+    /**
+     * Charge the time since the previous mark, or since the start of the frame, to a phase.
+     * @param phase The phase which has just run.
+     */
+    public void mark(FramePhase phase) {
+        if (!isEnabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        PHASE_NANOS[phase.ordinal()] += now - lastMarkNanos;
+        lastMarkNanos = now;
+    }
+
+    /**
+     * Finish measuring a frame, and add the time of each phase and of the whole frame to the ring buffer.
+     */
+    public void endFrame() {
+        if (!isEnabled) {
+            return;
+        }
+        int slot = (int) (frameCount & (WINDOW - 1));
+        for (int i = 0; i < PHASES.length; i++) {
+            SAMPLES[i][slot] = PHASE_NANOS[i];
+            PHASE_NANOS[i] = 0;
+        }
+        SAMPLES[FRAME_ROW][slot] = System.nanoTime() - frameStartNanos;
+        frameCount++;
+    }
+
+    /**
+     * Compute the statistics of every phase over the frames in the ring buffer, which the getters then return.
+     * This sorts the samples of each phase, so it is meant to be called a few times a second at most.
+     */
+    public void summarize() {
+        int sampleCount = getSampleCount();
+        for (int row = 0; row <= FRAME_ROW; row++) {
+            if (sampleCount == 0) {
+                MEDIAN_NANOS[row] = 0;
+                P99_NANOS[row] = 0;
+                MAX_NANOS[row] = 0;
+                continue;
+            }
+            System.arraycopy(SAMPLES[row], 0, SORT_BUFFER, 0, sampleCount);
+            Arrays.sort(SORT_BUFFER, 0, sampleCount);
+            MEDIAN_NANOS[row] = SORT_BUFFER[(sampleCount - 1) / 2];
+            P99_NANOS[row] = SORT_BUFFER[(int) Math.ceil(sampleCount * 0.99) - 1];
+            MAX_NANOS[row] = SORT_BUFFER[sampleCount - 1];
+        }
+    }
+
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Get the number of frames the statistics are computed over.
+     * @return The number of measured frames in the ring buffer.
+     */
+    public int getSampleCount() {
+        return (int) Math.min(frameCount, WINDOW);
+    }
+
+    public long getMedianNanos(FramePhase phase) {
+        return MEDIAN_NANOS[phase.ordinal()];
+    }
+
+    public long getP99Nanos(FramePhase phase) {
+        return P99_NANOS[phase.ordinal()];
+    }
+
+    public long getMaxNanos(FramePhase phase) {
+        return MAX_NANOS[phase.ordinal()];
+    }
+
+    public long getFrameMedianNanos() {
+        return MEDIAN_NANOS[FRAME_ROW];
+    }
+
+    public long getFrameP99Nanos() {
+        return P99_NANOS[FRAME_ROW];
+    }
+
+    public long getFrameMaxNanos() {
+        return MAX_NANOS[FRAME_ROW];
+    }
+}
@@ -0,0 +1,652 @@
+import java.util.Properties;
+
+/**
+ * An immutable, typed view of the game properties used by the game play entities.
+ * Every value is parsed and validated once when the game starts, so the entities only read primitive fields while
+ * the game is running.
+ */
+public class GameConfig {
+    private final int WINDOW_WIDTH;
+    private final int WINDOW_HEIGHT;
+    private final String FONT_FILE;
+
+    // backgrounds
+    private final String BACKGROUND_SUNNY_IMAGE;
+    private final String BACKGROUND_RAINING_IMAGE;
+    private final int BACKGROUND_CROSSFADE_FRAMES;
+
+    // game play
+    private final String OBJECTS_FILE;
+    private final String WEATHER_FILE;
+    private final String LEVEL_FILE;
+    private final String RECORDINGS_DIR;
+    private final String SCORES_FILE;
+    private final int TOP_SCORE_COUNT;
+    private final float TARGET;
+    private final int MAX_FRAMES;
+    private final boolean HAS_SEED;
+    private final long SEED;
+    private final int LEVEL_ACTIVATION_DISTANCE;
+
+    // trip
+    private final float TRIP_RATE_PER_Y;
+    private final float[] TRIP_PRIORITY_RATES;
+    private final float TRIP_PENALTY_PER_Y;
+
+    // road lanes
+    private final int[] ROAD_LANE_CENTERS;
+
+    // taxi
+    private final String TAXI_IMAGE;
+    private final String TAXI_DAMAGED_IMAGE;
+    private final float TAXI_RADIUS;
+    private final double TAXI_HEALTH;
+    private final double TAXI_DAMAGE;
+    private final int TAXI_SPEED_X;
+    private final int TAXI_SPEED_Y;
+    private final int TAXI_NEXT_SPAWN_MIN_Y;
+    private final int TAXI_NEXT_SPAWN_MAX_Y;
+
+    // other car
+    private final String[] OTHER_CAR_IMAGES;
+    private final float OTHER_CAR_RADIUS;
+    private final double OTHER_CAR_HEALTH;
+    private final double OTHER_CAR_DAMAGE;
+    private final int OTHER_CAR_MIN_SPEED_Y;
+    private final int OTHER_CAR_MAX_SPEED_Y;
+
+    // enemy car
+    private final String ENEMY_CAR_IMAGE;
+    private final double ENEMY_CAR_HEALTH;
+    private final double ENEMY_CAR_DAMAGE;
+
+    // fireball
+    private final String FIREBALL_IMAGE;
+    private final float FIREBALL_RADIUS;
+    private final double FIREBALL_DAMAGE;
+    private final int FIREBALL_SPEED_Y;
+
+    // damage effects
+    private final String SMOKE_IMAGE;
+    private final int SMOKE_TTL;
+    private final String FIRE_IMAGE;
+    private final int FIRE_TTL;
+    private final String BLOOD_IMAGE;
+    private final int BLOOD_TTL;
+
+    // passenger
+    private final String PASSENGER_IMAGE;
+    private final int PASSENGER_WALK_SPEED_X;
+    private final int PASSENGER_WALK_SPEED_Y;
+    private final float PASSENGER_RADIUS;
+    private final int PASSENGER_TAXI_DETECT_RADIUS;
+    private final double PASSENGER_HEALTH;
+    private final int PASSENGER_FONT_SIZE;
+
+    // driver
+    private final String DRIVER_IMAGE;
+    private final int DRIVER_WALK_SPEED_X;
+    private final int DRIVER_WALK_SPEED_Y;
+    private final float DRIVER_RADIUS;
+    private final int DRIVER_TAXI_GET_IN_RADIUS;
+    private final double DRIVER_HEALTH;
+
+    // trip end flag
+    private final String TRIP_END_FLAG_IMAGE;
+    private final float TRIP_END_FLAG_RADIUS;
+
+    // power ups
+    private final String INVINCIBLE_POWER_IMAGE;
+    private final float INVINCIBLE_POWER_RADIUS;
+    private final int INVINCIBLE_POWER_MAX_FRAMES;
+    private final String COIN_IMAGE;
+    private final float COIN_RADIUS;
+    private final int COIN_MAX_FRAMES;
+
+    /**
+     * Constructor for the GameConfig class, which parses and validates the game properties.
+     * @param props The properties object read from the game properties file.
+     * @throws IllegalArgumentException if a property is missing or holds an invalid value.
+     */
+    public GameConfig(Properties props) {
+        WINDOW_WIDTH = getPositiveInt(props, "window.width");
+        WINDOW_HEIGHT = getPositiveInt(props, "window.height");
+        FONT_FILE = getString(props, "font");
+
+        BACKGROUND_SUNNY_IMAGE = getString(props, "backgroundImage.sunny");
+        BACKGROUND_RAINING_IMAGE = getString(props, "backgroundImage.raining");
+        BACKGROUND_CROSSFADE_FRAMES = props.containsKey("backgroundImage.crossfadeFrames")
+                ? getNonNegativeInt(props, "backgroundImage.crossfadeFrames") : 0;
+
+        OBJECTS_FILE = getString(props, "gamePlay.objectsFile");
+        WEATHER_FILE = getString(props, "gamePlay.weatherFile");
+        LEVEL_FILE = props.containsKey("gamePlay.levelFile") ? getString(props, "gamePlay.levelFile") : null;
+        RECORDINGS_DIR = props.containsKey("gamePlay.recordingsDir")
+                ? getString(props, "gamePlay.recordingsDir") : null;
+        SCORES_FILE = getString(props, "gameEnd.scoresFile");
+        // the game end screen shows the top 5 scores unless configured otherwise
+        TOP_SCORE_COUNT = props.containsKey("gameEnd.topScores") ? getPositiveInt(props, "gameEnd.topScores") : 5;
+        TARGET = getFloat(props, "gamePlay.target");
+        MAX_FRAMES = getPositiveInt(props, "gamePlay.maxFrames");
+        HAS_SEED = props.containsKey("gamePlay.seed");
+        SEED = HAS_SEED ? getLong(props, "gamePlay.seed") : 0;
+        LEVEL_ACTIVATION_DISTANCE = props.containsKey("gamePlay.activationDistance")
+                ? getNonNegativeInt(props, "gamePlay.activationDistance") : WINDOW_HEIGHT;
+
+        TRIP_RATE_PER_Y = getFloat(props, "trip.rate.perY");
+        TRIP_PENALTY_PER_Y = getFloat(props, "trip.penalty.perY");
+        // priorities start from 1, and index 0 is left unused so a priority can be used as the index
+        int priorityCount = 0;
+        while (props.containsKey("trip.rate.priority" + (priorityCount + 1))) {
+            priorityCount++;
+        }
+        if (priorityCount == 0) {
+            throw new IllegalArgumentException("Missing game property: trip.rate.priority1");
+        }
+        TRIP_PRIORITY_RATES = new float[priorityCount + 1];
+        for (int priority = 1; priority <= priorityCount; priority++) {
+            TRIP_PRIORITY_RATES[priority] = getFloat(props, "trip.rate.priority" + priority);
+        }
+
+        int laneCount = 0;
+        while (props.containsKey("roadLaneCenter" + (laneCount + 1))) {
+            laneCount++;
+        }
+        if (laneCount == 0) {
+            throw new IllegalArgumentException("Missing game property: roadLaneCenter1");
+        }
+        ROAD_LANE_CENTERS = new int[laneCount];
+        for (int lane = 0; lane < laneCount; lane++) {
+            ROAD_LANE_CENTERS[lane] = getNonNegativeInt(props, "roadLaneCenter" + (lane + 1));
+        }
+
+        TAXI_IMAGE = getString(props, "gameObjects.taxi.image");
+        TAXI_DAMAGED_IMAGE = getString(props, "gameObjects.taxi.damagedImage");
+        TAXI_RADIUS = getPositiveFloat(props, "gameObjects.taxi.radius");
+        TAXI_HEALTH = getPositiveDouble(props, "gameObjects.taxi.health");
+        TAXI_DAMAGE = getDouble(props, "gameObjects.taxi.damage");
+        TAXI_SPEED_X = getPositiveInt(props, "gameObjects.taxi.speedX");
+        TAXI_SPEED_Y = getPositiveInt(props, "gameObjects.taxi.speedY");
+        TAXI_NEXT_SPAWN_MIN_Y = getNonNegativeInt(props, "gameObjects.taxi.nextSpawnMinY");
+        TAXI_NEXT_SPAWN_MAX_Y = getNonNegativeInt(props, "gameObjects.taxi.nextSpawnMaxY");
+        requireLessThan("gameObjects.taxi.nextSpawnMinY", TAXI_NEXT_SPAWN_MIN_Y,
+                "gameObjects.taxi.nextSpawnMaxY", TAXI_NEXT_SPAWN_MAX_Y);
+
+        // the other car image property is a pattern, numbered from 1 up to the number of car types
+        String otherCarImage = getString(props, "gameObjects.otherCar.image");
+        OTHER_CAR_IMAGES = new String[getPositiveInt(props, "gameObjects.otherCar.types")];
+        for (int i = 0; i < OTHER_CAR_IMAGES.length; i++) {
+            OTHER_CAR_IMAGES[i] = String.format(otherCarImage, i + 1);
+        }
+        OTHER_CAR_RADIUS = getPositiveFloat(props, "gameObjects.otherCar.radius");
+        OTHER_CAR_HEALTH = getPositiveDouble(props, "gameObjects.otherCar.health");
+        OTHER_CAR_DAMAGE = getDouble(props, "gameObjects.otherCar.damage");
+        OTHER_CAR_MIN_SPEED_Y = getPositiveInt(props, "gameObjects.otherCar.minSpeedY");
+        OTHER_CAR_MAX_SPEED_Y = getPositiveInt(props, "gameObjects.otherCar.maxSpeedY");
+        requireLessThan("gameObjects.otherCar.minSpeedY", OTHER_CAR_MIN_SPEED_Y,
+                "gameObjects.otherCar.maxSpeedY", OTHER_CAR_MAX_SPEED_Y);
+
+        ENEMY_CAR_IMAGE = getString(props, "gameObjects.enemyCar.image");
+        ENEMY_CAR_HEALTH = getPositiveDouble(props, "gameObjects.enemyCar.health");
+        ENEMY_CAR_DAMAGE = getDouble(props, "gameObjects.enemyCar.damage");
+
+        FIREBALL_IMAGE = getString(props, "gameObjects.fireball.image");
+        FIREBALL_RADIUS = getPositiveFloat(props, "gameObjects.fireball.radius");
+        FIREBALL_DAMAGE = getDouble(props, "gameObjects.fireball.damage");
+        FIREBALL_SPEED_Y = getPositiveInt(props, "gameObjects.fireball.shootSpeedY");
+
+        SMOKE_IMAGE = getString(props, "gameObjects.smoke.image");
+        SMOKE_TTL = getNonNegativeInt(props, "gameObjects.smoke.ttl");
+        FIRE_IMAGE = getString(props, "gameObjects.fire.image");
+        FIRE_TTL = getNonNegativeInt(props, "gameObjects.fire.ttl");
+        BLOOD_IMAGE = getString(props, "gameObjects.blood.image");
+        BLOOD_TTL = getNonNegativeInt(props, "gameObjects.blood.ttl");
+
+        PASSENGER_IMAGE = getString(props, "gameObjects.passenger.image");
+        PASSENGER_WALK_SPEED_X = getPositiveInt(props, "gameObjects.passenger.walkSpeedX");
+        PASSENGER_WALK_SPEED_Y = getPositiveInt(props, "gameObjects.passenger.walkSpeedY");
+        PASSENGER_RADIUS = getPositiveFloat(props, "gameObjects.passenger.radius");
+        PASSENGER_TAXI_DETECT_RADIUS = getPositiveInt(props, "gameObjects.passenger.taxiDetectRadius");
+        PASSENGER_HEALTH = getPositiveDouble(props, "gameObjects.passenger.health");
+        PASSENGER_FONT_SIZE = getPositiveInt(props, "gameObjects.passenger.fontSize");
+
+        DRIVER_IMAGE = getString(props, "gameObjects.driver.image");
+        DRIVER_WALK_SPEED_X = getPositiveInt(props, "gameObjects.driver.walkSpeedX");
+        DRIVER_WALK_SPEED_Y = getPositiveInt(props, "gameObjects.driver.walkSpeedY");
+        DRIVER_RADIUS = getPositiveFloat(props, "gameObjects.driver.radius");
+        DRIVER_TAXI_GET_IN_RADIUS = getPositiveInt(props, "gameObjects.driver.taxiGetInRadius");
+        DRIVER_HEALTH = getPositiveDouble(props, "gameObjects.driver.health");
+
+        TRIP_END_FLAG_IMAGE = getString(props, "gameObjects.tripEndFlag.image");
+        TRIP_END_FLAG_RADIUS = getPositiveFloat(props, "gameObjects.tripEndFlag.radius");
+
+        INVINCIBLE_POWER_IMAGE = getString(props, "gameObjects.invinciblePower.image");
+        INVINCIBLE_POWER_RADIUS = getPositiveFloat(props, "gameObjects.invinciblePower.radius");
+        INVINCIBLE_POWER_MAX_FRAMES = getPositiveInt(props, "gameObjects.invinciblePower.maxFrames");
+        COIN_IMAGE = getString(props, "gameObjects.coin.image");
+        COIN_RADIUS = getPositiveFloat(props, "gameObjects.coin.radius");
+        COIN_MAX_FRAMES = getPositiveInt(props, "gameObjects.coin.maxFrames");
+    }
+
+    /**
+     * Get the value of a property, which must be present.
+     * @param props The properties object.
+     * @param key The property key.
+     * @return The trimmed value of the property.
+     */
+    private static String getString(Properties props, String key) {
+        String value = props.getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            throw new IllegalArgumentException("Missing game property: " + key);
+        }
+        return value.trim();
+    }
+
+    private static int getInt(Properties props, String key) {
+        String value = getString(props, key);
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Game property " + key + " is not an integer: " + value, ex);
+        }
+    }
+
+    private static long getLong(Properties props, String key) {
+        String value = getString(props, key);
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Game property " + key + " is not an integer: " + value, ex);
+        }
+    }
+
+    private static int getPositiveInt(Properties props, String key) {
+        int value = getInt(props, key);
+        if (value <= 0) {
+            throw new IllegalArgumentException("Game property " + key + " must be positive: " + value);
+        }
+        return value;
+    }
+
+    private static int getNonNegativeInt(Properties props, String key) {
+        int value = getInt(props, key);
+        if (value < 0) {
+            throw new IllegalArgumentException("Game property " + key + " must not be negative: " + value);
+        }
+        return value;
+    }
+
+    private static double getDouble(Properties props, String key) {
+        String value = getString(props, key);
+        try {
+            double number = Double.parseDouble(value);
+            if (Double.isNaN(number) || Double.isInfinite(number)) {
+                throw new NumberFormatException(value);
+            }
+            return number;
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Game property " + key + " is not a number: " + value, ex);
+        }
+    }
+
+    private static double getPositiveDouble(Properties props, String key) {
+        double value = getDouble(props, key);
+        if (value <= 0) {
+            throw new IllegalArgumentException("Game property " + key + " must be positive: " + value);
+        }
+        return value;
+    }
+
+    private static float getFloat(Properties props, String key) {
+        return (float) getDouble(props, key);
+    }
+
+    private static float getPositiveFloat(Properties props, String key) {
+        return (float) getPositiveDouble(props, key);
+    }
+
+    private static void requireLessThan(String minKey, int min, String maxKey, int max) {
+        if (min >= max) {
+            throw new IllegalArgumentException("Game property " + minKey + " (" + min + ") must be less than "
+                    + maxKey + " (" + max + ")");
+        }
+    }
+
+    /**
+     * Get the fee rate of a trip priority.
+     * @param priority The priority of the trip, starting from 1.
+     * @return The fee added to a trip with the given priority.
+     */
+    public float getTripPriorityRate(int priority) {
+        return TRIP_PRIORITY_RATES[priority];
+    }
+
+    public int getPriorityCount() {
+        return TRIP_PRIORITY_RATES.length - 1;
+    }
+
+    /**
+     * Get the largest radius of the objects which take part in circle collisions.
+     * @return The largest collision radius.
+     */
+    public float getMaxCollisionRadius() {
+        float[] radii = {TAXI_RADIUS, OTHER_CAR_RADIUS, FIREBALL_RADIUS, PASSENGER_RADIUS, DRIVER_RADIUS,
+                INVINCIBLE_POWER_RADIUS, COIN_RADIUS};
+        float max = 0;
+        for (float radius : radii) {
+            max = Math.max(max, radius);
+        }
+        return max;
+    }
+
+    /**
+     * Get the x-coordinate of the center of a road lane.
+     * @param lane The index of the lane, starting from 0.
+     * @return The x-coordinate of the lane center.
+     */
+    public int getRoadLaneCenter(int lane) {
+        return ROAD_LANE_CENTERS[lane];
+    }
+
+    public int getRoadLaneCount() {
+        return ROAD_LANE_CENTERS.length;
+    }
+
+    /**
+     * Get the image file of an other car type.
+     * @param type The car type, starting from 1.
+     * @return The path to the image of the car type.
+     */
+    public String getOtherCarImage(int type) {
+        return OTHER_CAR_IMAGES[type - 1];
+    }
+
+    public int getOtherCarTypes() {
+        return OTHER_CAR_IMAGES.length;
+    }
+
+    public int getWindowWidth() {
+        return WINDOW_WIDTH;
+    }
+
+    public int getWindowHeight() {
+        return WINDOW_HEIGHT;
+    }
+
+    public String getFontFile() {
+        return FONT_FILE;
+    }
+
+    public String getBackgroundSunnyImage() {
+        return BACKGROUND_SUNNY_IMAGE;
+    }
+
+    public String getBackgroundRainingImage() {
+        return BACKGROUND_RAINING_IMAGE;
+    }
+
+    public int getBackgroundCrossfadeFrames() {
+        return BACKGROUND_CROSSFADE_FRAMES;
+    }
+
+    public String getObjectsFile() {
+        return OBJECTS_FILE;
+    }
+
+    public String getWeatherFile() {
+        return WEATHER_FILE;
+    }
+
+    /**
+     * Get the path of the compiled level file, which holds the game objects and the weather in binary form.
+     * @return The path of the compiled level file, or null if the level is always read from the CSV files.
+     */
+    public String getLevelFile() {
+        return LEVEL_FILE;
+    }
+
+    /**
+     * Get the directory the input recordings of the game sessions are saved in.
+     * @return The path of the directory, or null if the game sessions are not recorded.
+     */
+    public String getRecordingsDir() {
+        return RECORDINGS_DIR;
+    }
+
+    public String getScoresFile() {
+        return SCORES_FILE;
+    }
+
+    public int getTopScoreCount() {
+        return TOP_SCORE_COUNT;
+    }
+
+    public float getTarget() {
+        return TARGET;
+    }
+
+    public int getMaxFrames() {
+        return MAX_FRAMES;
+    }
+
+    /**
+     * Check if the games are played with a fixed random seed.
+     * @return True if a seed is set in the game properties or on the command line, false otherwise.
+     */
+    public boolean hasSeed() {
+        return HAS_SEED;
+    }
+
+    public long getSeed() {
+        return SEED;
+    }
+
+    /**
+     * Get the distance above and below the screen within which the game objects of the level take part in the game
+     * play. It defaults to the window height.
+     * @return The activation distance of the level streamer.
+     */
+    public int getLevelActivationDistance() {
+        return LEVEL_ACTIVATION_DISTANCE;
+    }
+
+    public float getTripRatePerY() {
+        return TRIP_RATE_PER_Y;
+    }
+
+    public float getTripPenaltyPerY() {
+        return TRIP_PENALTY_PER_Y;
+    }
+
+    public String getTaxiImage() {
+        return TAXI_IMAGE;
+    }
+
+    public String getTaxiDamagedImage() {
+        return TAXI_DAMAGED_IMAGE;
+    }
+
+    public float getTaxiRadius() {
+        return TAXI_RADIUS;
+    }
+
+    public double getTaxiHealth() {
+        return TAXI_HEALTH;
+    }
+
+    public double getTaxiDamage() {
+        return TAXI_DAMAGE;
+    }
+
+    public int getTaxiSpeedX() {
+        return TAXI_SPEED_X;
+    }
+
+    public int getTaxiSpeedY() {
+        return TAXI_SPEED_Y;
+    }
+
+    public int getTaxiNextSpawnMinY() {
+        return TAXI_NEXT_SPAWN_MIN_Y;
+    }
+
+    public int getTaxiNextSpawnMaxY() {
+        return TAXI_NEXT_SPAWN_MAX_Y;
+    }
+
+    public float getOtherCarRadius() {
+        return OTHER_CAR_RADIUS;
+    }
+
+    public double getOtherCarHealth() {
+        return OTHER_CAR_HEALTH;
+    }
+
+    public double getOtherCarDamage() {
+        return OTHER_CAR_DAMAGE;
+    }
+
+    public int getOtherCarMinSpeedY() {
+        return OTHER_CAR_MIN_SPEED_Y;
+    }
+
+    public int getOtherCarMaxSpeedY() {
+        return OTHER_CAR_MAX_SPEED_Y;
+    }
+
+    public String getEnemyCarImage() {
+        return ENEMY_CAR_IMAGE;
+    }
+
+    public double getEnemyCarHealth() {
+        return ENEMY_CAR_HEALTH;
+    }
+
+    public double getEnemyCarDamage() {
+        return ENEMY_CAR_DAMAGE;
+    }
+
+    public String getFireballImage() {
+        return FIREBALL_IMAGE;
+    }
+
+    public float getFireballRadius() {
+        return FIREBALL_RADIUS;
+    }
+
+    public double getFireballDamage() {
+        return FIREBALL_DAMAGE;
+    }
+
+    public int getFireballSpeedY() {
+        return FIREBALL_SPEED_Y;
+    }
+
+    public String getSmokeImage() {
+        return SMOKE_IMAGE;
+    }
+
+    public int getSmokeTtl() {
+        return SMOKE_TTL;
+    }
+
+    public String getFireImage() {
+        return FIRE_IMAGE;
+    }
+
+    public int getFireTtl() {
+        return FIRE_TTL;
+    }
+
+    public String getBloodImage() {
+        return BLOOD_IMAGE;
+    }
+
+    public int getBloodTtl() {
+        return BLOOD_TTL;
+    }
+
+    public String getPassengerImage() {
+        return PASSENGER_IMAGE;
+    }
+
+    public int getPassengerWalkSpeedX() {
+        return PASSENGER_WALK_SPEED_X;
+    }
+
+    public int getPassengerWalkSpeedY() {
+        return PASSENGER_WALK_SPEED_Y;
+    }
+
+    public float getPassengerRadius() {
+        return PASSENGER_RADIUS;
+    }
+
+    public int getPassengerTaxiDetectRadius() {
+        return PASSENGER_TAXI_DETECT_RADIUS;
+    }
+
+    public double getPassengerHealth() {
+        return PASSENGER_HEALTH;
+    }
+
+    public int getPassengerFontSize() {
+        return PASSENGER_FONT_SIZE;
+    }
+
+    public String getDriverImage() {
+        return DRIVER_IMAGE;
+    }
+
+    public int getDriverWalkSpeedX() {
+        return DRIVER_WALK_SPEED_X;
+    }
+
+    public int getDriverWalkSpeedY() {
+        return DRIVER_WALK_SPEED_Y;
+    }
+
+    public float getDriverRadius() {
+        return DRIVER_RADIUS;
+    }
+
+    public int getDriverTaxiGetInRadius() {
+        return DRIVER_TAXI_GET_IN_RADIUS;
+    }
+
+    public double getDriverHealth() {
+        return DRIVER_HEALTH;
+    }
+
+    public String getTripEndFlagImage() {
+        return TRIP_END_FLAG_IMAGE;
+    }
+
+    public float getTripEndFlagRadius() {
+        return TRIP_END_FLAG_RADIUS;
+    }
+
+    public String getInvinciblePowerImage() {
+        return INVINCIBLE_POWER_IMAGE;
+    }
+
+    public float getInvinciblePowerRadius() {
+        return INVINCIBLE_POWER_RADIUS;
+    }
+
+    public int getInvinciblePowerMaxFrames() {
+        return INVINCIBLE_POWER_MAX_FRAMES;
+    }
+
+    public String getCoinImage() {
+        return COIN_IMAGE;
+    }
+
+    public float getCoinRadius() {
+        return COIN_RADIUS;
+    }
+
+    public int getCoinMaxFrames() {
+        return COIN_MAX_FRAMES;
+    }
+}
@@ -1,121 +1,107 @@
-import bagel.*;
-
-import java.util.*;
-
-/**
- * A class that represents the game end screen for a win/loss.
- */
-public class GameEndScreen {
-
-    private final Image BACKGROUND_IMAGE;
-
-    private final String GAME_WON_TXT;
-    private final String GAME_LOST_TXT;
-    private final String HIGHEST_SCORE_TXT;
-
-    private final Font STATUS_FONT;
-    private final Font SCORES_FONT;
-
-    private final int STATUS_Y;
-    private final int SCORES_Y;
-
-    private final Score[] TOP_SCORES;
-    private Score[] scores;
-
-    private boolean isWon;
-
-    /**
-     * Constructor for the GameEndScreen class.
-     * @param gameProps The properties containing the game configurations (e.g., background image, font).
-     * @param msgProps The properties containing the game end messages (e.g., win/loss messages).
-     */
-    public GameEndScreen(Properties gameProps, Properties msgProps) {
-
-        BACKGROUND_IMAGE = new Image(gameProps.getProperty("backgroundImage.gameEnd"));
-
-        GAME_WON_TXT = msgProps.getProperty("gameEnd.won");
-        GAME_LOST_TXT = msgProps.getProperty("gameEnd.lost");
-        HIGHEST_SCORE_TXT = msgProps.getProperty("gameEnd.highestScores");
-
-        STATUS_Y = Integer.parseInt(gameProps.getProperty("gameEnd.status.y"));
-        SCORES_Y = Integer.parseInt(gameProps.getProperty("gameEnd.scores.y"));
-
-        String fontFile = gameProps.getProperty("font");
-        STATUS_FONT = new Font(fontFile, Integer.parseInt(gameProps.getProperty("gameEnd.status.fontSize")));
-        SCORES_FONT = new Font(fontFile, Integer.parseInt(gameProps.getProperty("gameEnd.scores.fontSize")));
-
-        //get top 5 scores
-        populateScores(gameProps.getProperty("gameEnd.scoresFile"));
-        TOP_SCORES = getTopScores();
-    }
-
-
-    /**
-     * Show whether the game is won or lost and the top 5 scores.
-     * @param input The current mouse/keyboard input.
-     * @return true if SPACE key is pressed, false otherwise.
-     */
-    public boolean update(Input input) {
-        BACKGROUND_IMAGE.draw(Window.getWidth()/2.0, Window.getHeight()/2.0);
-
-        if(isWon) {
-            STATUS_FONT.drawString(GAME_WON_TXT,
-                    Window.getWidth() / 2 - STATUS_FONT.getWidth(GAME_WON_TXT)/2, STATUS_Y);
-        } else {
-            STATUS_FONT.drawString(GAME_LOST_TXT,
-                    Window.getWidth() / 2 - STATUS_FONT.getWidth(GAME_LOST_TXT)/2, STATUS_Y);
-        }
-
-        if (input.wasPressed(Keys.SPACE)) {
-            return true;
-        }
-
-        SCORES_FONT.drawString(HIGHEST_SCORE_TXT, Window.getWidth() / 2 - SCORES_FONT.getWidth(HIGHEST_SCORE_TXT)/2,
-                SCORES_Y);
-
-        int scoreIdx = 0;
-        for(Score score : TOP_SCORES) {
-            if(score != null) {
-                String text = score.getPlayerName() + " - " + String.format("%.02f", score.getScore());
-                double x = Window.getWidth() / 2 - SCORES_FONT.getWidth(text)/2;
-                double y = SCORES_Y + 40 * (scoreIdx + 1);
-                SCORES_FONT.drawString(text, x, y);
-            }
-
-            scoreIdx++;
-        }
-
-        return false;
-
-    }
-
-    /**
-     * Populate the scores from a file. The file used to store the scores of previous game plays.
-     * @param filename The name of the file to read the scores from.
-     */
-    public void populateScores(String filename) {
-        ArrayList<String[]> data = IOUtils.readCommaSeparatedFile(filename);
-        scores = new Score[data.size()];
-
-        int scoreIdx = 0;
-        for (String[] line : data) {
-            String username = line[0];
-            double score = Double.parseDouble(line[1]);
-            scores[scoreIdx] = new Score(username, score);
-            scoreIdx++;
-        }
-    }
-
-    /**
-     * Sort the score in descending order and return the top 5 scores.
-     * @return list of Score objects representing the top 5 scores.
-     */
-    public Score[] getTopScores() {
-        Arrays.sort(scores, (a, b) -> Double.compare(b.getScore(), a.getScore()));
-        return Arrays.copyOfRange(scores, 0, 5);
-    }
-
-    public void setIsWon(boolean isWon) {
-        this.isWon = isWon;
-    }
-}
+import bagel.*;
+
+import java.util.*;
+
+/**
+ * A class that represents the game end screen for a win/loss.
+ */
+public class GameEndScreen {
+
+    private final Image BACKGROUND_IMAGE;
+
+    private final String GAME_WON_TXT;
+    private final String GAME_LOST_TXT;
+    private final String HIGHEST_SCORE_TXT;
+    private final String RANK_TXT;
+
+    private final Font STATUS_FONT;
+    private final Font SCORES_FONT;
+
+    private final int STATUS_Y;
+    private final int SCORES_Y;
+
+    private final Score[] TOP_SCORES;
+
+    private boolean isWon;
+
+    /**
+     * Constructor for the GameEndScreen class.
+     * @param gameProps The properties containing the game configurations (e.g., background image, font).
+     * @param msgProps The properties containing the game end messages (e.g., win/loss messages).
+     * @param leaderboard The leaderboard holding the top scores.
+     * @param playerScore The score recorded for the game play, or null if no score was recorded.
+     */
+    public GameEndScreen(Properties gameProps, Properties msgProps, Leaderboard leaderboard, Score playerScore) {
+
+        BACKGROUND_IMAGE = AssetRegistry.getImage(gameProps.getProperty("backgroundImage.gameEnd"));
+
+        GAME_WON_TXT = msgProps.getProperty("gameEnd.won");
+        GAME_LOST_TXT = msgProps.getProperty("gameEnd.lost");
+        HIGHEST_SCORE_TXT = msgProps.getProperty("gameEnd.highestScores");
+
+        STATUS_Y = Integer.parseInt(gameProps.getProperty("gameEnd.status.y"));
+        SCORES_Y = Integer.parseInt(gameProps.getProperty("gameEnd.scores.y"));
+
+        String fontFile = gameProps.getProperty("font");
+        STATUS_FONT = AssetRegistry.getFont(fontFile, Integer.parseInt(gameProps.getProperty("gameEnd.status.fontSize")));
+        SCORES_FONT = AssetRegistry.getFont(fontFile, Integer.parseInt(gameProps.getProperty("gameEnd.scores.fontSize")));
+
+        //get top scores
+        TOP_SCORES = leaderboard.getTopScores();
+
+        // rank the score of the player among all game plays
+        if (playerScore != null) {
+            RANK_TXT = String.format(msgProps.getProperty("gameEnd.rank"), leaderboard.getRank(playerScore.getScore()),
+                    leaderboard.getScoreCount(), leaderboard.getPercentile(playerScore.getScore()));
+        } else {
+            RANK_TXT = null;
+        }
+    }
+
+
+    /**
+     * Show whether the game is won or lost and the top scores.
+     * @param input The current mouse/keyboard input.
+     * @return true if SPACE key is pressed, false otherwise.
+     */
+    public boolean update(Input input) {
+        BACKGROUND_IMAGE.draw(Window.getWidth()/2.0, Window.getHeight()/2.0);
+
+        if(isWon) {
+            STATUS_FONT.drawString(GAME_WON_TXT,
+                    Window.getWidth() / 2 - STATUS_FONT.getWidth(GAME_WON_TXT)/2, STATUS_Y);
+        } else {
+            STATUS_FONT.drawString(GAME_LOST_TXT,
+                    Window.getWidth() / 2 - STATUS_FONT.getWidth(GAME_LOST_TXT)/2, STATUS_Y);
+        }
+
+        if (input.wasPressed(Keys.SPACE)) {
+            return true;
+        }
+
+        SCORES_FONT.drawString(HIGHEST_SCORE_TXT, Window.getWidth() / 2 - SCORES_FONT.getWidth(HIGHEST_SCORE_TXT)/2,
+                SCORES_Y);
+
+        int scoreIdx = 0;
+        for(Score score : TOP_SCORES) {
+            String text = score.getPlayerName() + " - " + String.format("%.02f", score.getScore());
+            double x = Window.getWidth() / 2 - SCORES_FONT.getWidth(text)/2;
+            double y = SCORES_Y + 40 * (scoreIdx + 1);
+            SCORES_FONT.drawString(text, x, y);
+
+            scoreIdx++;
+        }
+
+        if (RANK_TXT != null) {
+            double y = SCORES_Y + 40 * (scoreIdx + 1);
+            SCORES_FONT.drawString(RANK_TXT, Window.getWidth() / 2 - SCORES_FONT.getWidth(RANK_TXT)/2, y);
+        }
+
+        return false;
+
+    }
+
+    public void setIsWon(boolean isWon) {
+        this.isWon = isWon;
+    }
+}
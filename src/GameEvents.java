@@ -0,0 +1,19 @@
+import jdk.jfr.EventType;
+
+/**
+ * The Flight Recorder event types of the game. The events are disabled by default, and the game checks that an event
+ * type is enabled before creating an event, so no events are allocated while no recording asks for them.
+ * The settings in res/gameEvents.jfc enable all of them, for example with
+ * {@code java -XX:StartFlightRecording:settings=res/gameEvents.jfc,filename=game.jfr ShadowTaxi}.
+ */
+public final class GameEvents {
+    public static final EventType FRAME = EventType.getEventType(FrameEvent.class);
+    public static final EventType SPAWN = EventType.getEventType(SpawnEvent.class);
+    public static final EventType COLLISION = EventType.getEventType(CollisionEvent.class);
+    public static final EventType CONTACT_EXIT = EventType.getEventType(ContactExitEvent.class);
+    public static final EventType TRIP = EventType.getEventType(TripEvent.class);
+    public static final EventType SCORE_PERSISTED = EventType.getEventType(ScorePersistedEvent.class);
+
+    private GameEvents() {
+    }
+}
@@ -1,9 +1,9 @@
-/**
- * GameObjectType is an enum class that contains all the types of GameObjects that can be created in the game.
- */
-public enum GameObjectType {
-    TAXI,
-    PASSENGER,
-    COIN,
-    INVINCIBLE_POWER
-}
+/**
+ * GameObjectType is an enum class that contains all the types of GameObjects that can be created in the game.
+ */
+public enum GameObjectType {
+    TAXI,
+    PASSENGER,
+    COIN,
+    INVINCIBLE_POWER
+}
@@ -0,0 +1,70 @@
+import java.util.SplittableRandom;
+
+/**
+ * A source of random numbers for one game session. The session is seeded once, and each subsystem of the game play
+ * takes its own stream split from the session, so the same seed and the same controls always play the same game.
+ */
+public class GameRandom {
+    private static final int SPAWN_ROLL_MAX = 1000;
+
+    private final SplittableRandom RANDOM;
+
+    /**
+     * Constructor for the GameRandom class.
+     * @param seed The seed of the game session.
+     */
+    public GameRandom(long seed) {
+        this.RANDOM = new SplittableRandom(seed);
+    }
+
+    private GameRandom(SplittableRandom random) {
+        this.RANDOM = random;
+    }
+
+    /**
+     * Choose a seed for a game session which is not played with a fixed seed.
+     * @return A new random seed.
+     */
+    public static long newSeed() {
+        return new SplittableRandom().nextLong();
+    }
+
+    /**
+     * Create an independent stream for a subsystem. The streams split from a session depend only on the seed and the
+     * order in which they are split.
+     * @return The new random stream.
+     */
+    public GameRandom split() {
+        return new GameRandom(RANDOM.split());
+    }
+
+    /**
+     * Check if the game should spawn a new object in this frame.
+     * @param rate The spawn rate, where an object is spawned once in rate frames on average.
+     * @return true if the game should spawn a new object, false otherwise.
+     */
+    public boolean canSpawn(int rate) {
+        int roll = RANDOM.nextInt(SPAWN_ROLL_MAX) + 1;
+        return roll % rate == 0;
+    }
+
+    /**
+     * Get a random integer between min and max.
+     * @param min The minimum value.
+     * @param max The maximum value, which is never returned.
+     * @return A random integer between min and max.
+     */
+    public int nextInt(int min, int max) {
+        return RANDOM.nextInt(min, max);
+    }
+
+    /**
+     * Select one of two values randomly.
+     * @param val1 The first value.
+     * @param val2 The second value.
+     * @return Either val1 or val2.
+     */
+    public int selectAValue(int val1, int val2) {
+        return RANDOM.nextBoolean() ? val1 : val2;
+    }
+}
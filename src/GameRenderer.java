@@ -0,0 +1,112 @@
+import bagel.DrawOptions;
+import bagel.Image;
+
+import java.util.IdentityHashMap;
+
+/**
+ * Draws the render queue of the game play to the bagel window.
+ * The image of each image file is taken from the asset registry once, the first time the file is drawn, and kept by
+ * the file path the game objects hold, so drawing a frame looks up no path in the registry.
+ */
+public class GameRenderer {
+    private static final double OPAQUE = 1.0;
+
+    private final String FONT_FILE;
+    // the images of the files drawn so far, by the identity of the path the game objects hold
+    private final IdentityHashMap<String, Image> IMAGES;
+    // the blend options for each step of the background crossfade are computed once
+    private final DrawOptions[] FADE_OPTIONS;
+    // any other partly transparent image has its blend colour set before it is drawn
+    private final DrawOptions BLEND_OPTIONS;
+
+    private long culledCount;
+
+    /**
+     * Constructor for the GameRenderer class.
+     * @param config The game configuration containing the font file and the number of background crossfade frames.
+     */
+    public GameRenderer(GameConfig config) {
+        this.FONT_FILE = config.getFontFile();
+        this.IMAGES = new IdentityHashMap<>();
+
+        int crossfadeFrames = config.getBackgroundCrossfadeFrames();
+        this.FADE_OPTIONS = new DrawOptions[crossfadeFrames];
+        for (int i = 0; i < crossfadeFrames; i++) {
+            FADE_OPTIONS[i] = new DrawOptions();
+            FADE_OPTIONS[i].setBlendColour(1.0, 1.0, 1.0, getFadeAlpha(i));
+        }
+        this.BLEND_OPTIONS = new DrawOptions();
+    }
+
+    /**
+     * Draw every entry of the render queue, in the order they were added. The entries are in world coordinates and
+     * are moved to the screen by the camera. Images which are entirely off the screen are skipped.
+     * @param queue The render queue of the current frame.
+     * @param camera The camera of the game play.
+     */
+    public void render(RenderQueue queue, Camera camera) {
+        for (int i = 0; i < queue.size(); i++) {
+            double screenY = camera.toScreenY(queue.getY(i));
+            if (queue.isText(i)) {
+                AssetRegistry.getFont(FONT_FILE, queue.getFontSize(i))
+                        .drawString(queue.getContent(i), queue.getX(i), screenY);
+                continue;
+            }
+
+            Image image = getImage(queue.getContent(i));
+            if (!camera.isVisible(queue.getY(i), image.getHeight() / 2)) {
+                culledCount++;
+            } else if (queue.getAlpha(i) >= OPAQUE) {
+                image.draw(queue.getX(i), screenY);
+            } else {
+                image.draw(queue.getX(i), screenY, getBlendOptions(queue.getAlpha(i)));
+            }
+        }
+    }
+
+    /**
+     * Get the image of an image file, taking it from the asset registry the first time the file is drawn.
+     * @param imageFile The path to the image file, as held by the game object.
+     * @return The shared Image object for the file.
+     */
+    private Image getImage(String imageFile) {
+        Image image = IMAGES.get(imageFile);
+        if (image == null) {
+            image = AssetRegistry.getImage(imageFile);
+            IMAGES.put(imageFile, image);
+        }
+        return image;
+    }
+
+    /**
+     * Get the draw options blending an image with an opacity. The steps of the background crossfade use their
+     * precomputed options.
+     * @param alpha The opacity of the image, from 0 (invisible) to 1 (opaque).
+     * @return The draw options for the opacity.
+     */
+    private DrawOptions getBlendOptions(double alpha) {
+        int step = (int) Math.round(alpha * (FADE_OPTIONS.length + 1)) - 1;
+        if (step >= 0 && step < FADE_OPTIONS.length && getFadeAlpha(step) == alpha) {
+            return FADE_OPTIONS[step];
+        }
+        BLEND_OPTIONS.setBlendColour(1.0, 1.0, 1.0, alpha);
+        return BLEND_OPTIONS;
+    }
+
+    /**
+     * Get the opacity of the new background image at a step of the crossfade, as the background computes it.
+     * @param step The step of the crossfade, from 0.
+     * @return The opacity of the new image.
+     */
+    private double getFadeAlpha(int step) {
+        return (step + 1.0) / (FADE_OPTIONS.length + 1.0);
+    }
+
+    /**
+     * Get the number of images skipped because they were off the screen.
+     * @return The number of culled images since the renderer was created.
+     */
+    public long getCulledCount() {
+        return culledCount;
+    }
+}
@@ -0,0 +1,412 @@
+import java.util.ArrayList;
+
+/**
+ * The simulation of the game play. It advances the state of every game object by one frame from the controls of that
+ * frame, and adds the game objects to a render queue in a separate pass. It does not depend on the window or the
+ * graphics library, so games can run without a display.
+ * The game objects are placed in world coordinates, and the road scrolls by moving the camera.
+ */
+public class GameWorld {
+    private final GameConfig CONFIG;
+    private final int COIN_MAX_FRAMES;
+    private final long SEED;
+    private final GameRandom RESPAWN_RANDOM;
+    private final Camera CAMERA;
+    private final FrameProfiler PROFILER;
+    private final ColliderIds COLLIDER_IDS;
+
+    // keep track of earning and coin timeout
+    private float totalEarnings;
+    private float coinFramesActive;
+
+    private int currFrame = 0;
+    // whether the last update created a game object, or started or ended a trip, see isEventFrame
+    private boolean isEventFrame;
+
+    // game objects
+    private WeatherTimeline weatherTimeline;
+    private final TrafficManager TRAFFIC;
+    private final ContactManager CONTACTS;
+    ArrayList<DamagedTaxi> damagedTaxis;
+    private Taxi taxi;
+    private Driver driver;
+    private LevelStreamer levelStreamer;
+    ArrayList<Passenger> passengers;
+    private ArrayList<Coin> coins;
+    private ArrayList<InvinciblePower> invinciblePowers;
+    private final SpatialHash<PowerUp> POWER_UP_GRID;
+    private Background background1;
+    private Background background2;
+    private double minPassengerHealth = 1.0;
+
+    private final float TARGET;
+    private final int MAX_FRAMES;
+
+    /**
+     * Constructor for the GameWorld class, which reads the game objects and the weather of the level.
+     * @param config The game configuration used by the game objects, such as the target and object files.
+     * @param seed The seed of the random numbers of the game.
+     */
+    public GameWorld(GameConfig config, long seed) {
+        this.CONFIG = config;
+        this.COIN_MAX_FRAMES = config.getCoinMaxFrames();
+        this.coinFramesActive = COIN_MAX_FRAMES;
+        this.SEED = seed;
+        // every subsystem has its own stream, so a change in one does not shift the numbers of the others
+        GameRandom sessionRandom = new GameRandom(seed);
+        GameRandom trafficRandom = sessionRandom.split();
+        GameRandom enemyRandom = sessionRandom.split();
+        this.RESPAWN_RANDOM = sessionRandom.split();
+        this.CAMERA = new Camera(config);
+        this.PROFILER = new FrameProfiler();
+        this.COLLIDER_IDS = new ColliderIds();
+        this.CONTACTS = new ContactManager(config);
+        this.TRAFFIC = new TrafficManager(config, CAMERA, trafficRandom, enemyRandom, COLLIDER_IDS, CONTACTS);
+        this.damagedTaxis = new ArrayList<>();
+        // the grid is rebuilt after the power-ups have moved, so no slack is needed
+        this.POWER_UP_GRID = new SpatialHash<>(2 * config.getMaxCollisionRadius(), 0);
+
+        // read the game objects and the weather of the level, and populate the game objects and weather conditions
+        LevelFile levelFile = LevelFile.load(config);
+        this.weatherTimeline = levelFile.createWeatherTimeline();
+        populateGameObjects(levelFile.getLevel());
+
+        this.TARGET = config.getTarget();
+        this.MAX_FRAMES = config.getMaxFrames();
+    }
+
+    /**
+     * Populate the game objects of the level. The taxi and the backgrounds are created here, and the passengers and
+     * power-ups are created by the level streamer as they come within reach of the screen.
+     * @param level The game objects of the level, ordered by y-coordinate.
+     */
+    private void populateGameObjects(Level level) {
+        WeatherCondition initialWeather = weatherTimeline.getWeather(currFrame);
+        // two background images stacked in y-axis are used to create a scrolling effect
+        background1 = new Background(CONFIG.getWindowWidth() / 2, CONFIG.getWindowHeight() / 2,
+                initialWeather, CONFIG);
+        background2 = new Background(CONFIG.getWindowWidth() / 2, -1 * CONFIG.getWindowHeight() / 2,
+                initialWeather, CONFIG);
+
+        // the taxi can take at most one trip per passenger of the level
+        int taxiIndex = level.indexOf(GameObjectType.TAXI);
+        if (taxiIndex < 0) {
+            throw new IllegalArgumentException("Missing taxi in the game objects file: " + CONFIG.getObjectsFile());
+        }
+        int x = level.getX(taxiIndex);
+        int y = level.getY(taxiIndex);
+        driver = new Driver(x, y, taxi, CONFIG, COLLIDER_IDS);
+        taxi = new Taxi(x, y, level.count(GameObjectType.PASSENGER), CONFIG, driver, COLLIDER_IDS);
+
+        levelStreamer = new LevelStreamer(level, CAMERA, CONFIG, COLLIDER_IDS);
+        passengers = levelStreamer.getPassengers();
+        coins = levelStreamer.getCoins();
+        invinciblePowers = levelStreamer.getInvinciblePowers();
+    }
+
+    /**
+     * Update the states of the game objects based on the keyboard input.
+     * Handle the spawning of other cars in random intervals
+     * Change the background image and change priorities based on the weather condition
+     * Handle collision between game objects
+     * Spawn new taxi if the active taxi is destroyed
+     * @param input The controls of the current frame.
+     * @return true if the game is finished, false otherwise
+     */
+    public boolean update(ControlInput input) {
+        int colliderIdsBefore = COLLIDER_IDS.getIssuedCount();
+        Trip tripBefore = taxi.getTrip();
+        currFrame++;
+        CAMERA.update(input);
+        keepOnScreen();
+        PROFILER.mark(FramePhase.SCROLLING);
+        levelStreamer.update();
+        PROFILER.mark(FramePhase.SPAWNING);
+
+        // Check the weather for this frame
+        WeatherCondition currWeather = weatherTimeline.getWeather(currFrame);
+
+        // Update backgrounds based on current weather conditions
+        background1.setWeatherCondition(currWeather);
+        background2.setWeatherCondition(currWeather);
+
+        background1.update(CAMERA, background2);
+        background2.update(CAMERA, background1);
+        PROFILER.mark(FramePhase.BACKGROUNDS);
+
+        Passenger driverPassenger = driver.getTrip() != null ? driver.getTripPassenger() : null;
+        for (int i = 0; i < passengers.size(); i++) {
+            Passenger passenger = passengers.get(i);
+            if (passenger == driverPassenger) {
+                continue;
+            }
+            passenger.updateWithTaxi(taxi);
+            if (passenger.getHealth() < minPassengerHealth){
+                minPassengerHealth = passenger.getHealth();
+            }
+        }
+
+        if (driver.isInTaxi()) {
+            if (driver.getTrip() != null) {
+                Passenger passenger= driver.getTripPassenger();
+                passenger.updateWithTaxi(taxi);
+            }
+        } else {
+            if (driver.getTrip() != null) {
+                Passenger passenger= driver.getTripPassenger();
+                passenger.updateWithDriver(driver);
+            }
+        }
+        PROFILER.mark(FramePhase.PASSENGERS);
+
+        taxi.update(input, CAMERA);
+        PROFILER.mark(FramePhase.TAXI);
+        // the damaged taxis stay on the road, so they have nothing to update; only a destroyed taxi leaves a new one
+        if (taxi.isDestroyed && !taxi.getRenderedDamagedTaxi()) {
+            DamagedTaxi damagedTaxi = new DamagedTaxi(taxi.getX(), taxi.getY(), CONFIG, driver,
+                    COLLIDER_IDS);
+            taxi.setRenderedDamagedTaxi(true);
+            damagedTaxis.add(damagedTaxi);
+            taxi.renderNewTaxi(RESPAWN_RANDOM, CAMERA);
+        }
+        PROFILER.mark(FramePhase.DAMAGED_TAXIS);
+
+        driver.update(input, taxi);
+        totalEarnings = taxi.calculateTotalEarnings();
+        PROFILER.mark(FramePhase.DRIVER);
+
+        TRAFFIC.spawn();
+        PROFILER.mark(FramePhase.SPAWNING);
+        TRAFFIC.update();
+        CONTACTS.update(taxi, driver, TRAFFIC.getCars());
+        PROFILER.mark(FramePhase.CARS);
+
+        for (int i = 0; i < coins.size(); i++) {
+            coins.get(i).update();
+        }
+        PROFILER.mark(FramePhase.COINS);
+
+        for (int i = 0; i < invinciblePowers.size(); i++) {
+            invinciblePowers.get(i).update();
+        }
+        PROFILER.mark(FramePhase.INVINCIBLE_POWERS);
+
+        collidePowerUps();
+        PROFILER.mark(FramePhase.POWER_UP_COLLISIONS);
+
+        int minFramesActive = COIN_MAX_FRAMES;
+        for (int i = 0; i < coins.size(); i++) {
+            Coin coinPower = coins.get(i);
+            // check if there's active coin and finding the coin with maximum ttl
+            int framesActive = coinPower.getFramesActive();
+            if(coinPower.getIsActive() && minFramesActive > framesActive) {
+                minFramesActive = framesActive;
+            }
+        }
+        coinFramesActive = minFramesActive;
+        PROFILER.mark(FramePhase.COINS);
+
+        // every new game object takes a collider id, while a car spawned again from its pool keeps its own
+        isEventFrame = COLLIDER_IDS.getIssuedCount() != colliderIdsBefore || taxi.getTrip() != tripBefore;
+        return isGameOver(driver, taxi, passengers) || isLevelCompleted();
+
+    }
+
+    /**
+     * Check if the last update was an event frame, which created a game object (a car, a fireball, a damaged taxi or
+     * an object of the level coming within reach), or started or ended a trip. Only these frames are expected to
+     * allocate memory; every other frame of the game play, including a car spawned again from its pool and damage
+     * being done, allocates nothing.
+     * @return True if the last update was an event frame, false otherwise.
+     */
+    public boolean isEventFrame() {
+        return isEventFrame;
+    }
+
+    /**
+     * Move the objects which keep their place on the screen up the world, as far as the camera has scrolled in this
+     * frame. These are the driven taxi, the driver on foot, the passenger getting in or riding the taxi and the
+     * fireballs. Every other object stays at its place on the road.
+     */
+    private void keepOnScreen() {
+        if (CAMERA.getScrollY() == 0) {
+            return;
+        }
+
+        taxi.keepOnScreen(CAMERA);
+        driver.keepOnScreen(CAMERA);
+        for (int i = 0; i < passengers.size(); i++) {
+            passengers.get(i).keepOnScreen(CAMERA);
+        }
+        TRAFFIC.keepOnScreen();
+    }
+
+    /**
+     * Let the taxi and the driver collect the power-ups they have collided with. The power-ups are placed in a spatial
+     * hash, so only the power-ups near the taxi and the driver are checked. A power-up can only be collected once.
+     */
+    private void collidePowerUps() {
+        POWER_UP_GRID.clear();
+        for (int i = 0; i < coins.size(); i++) {
+            if (!coins.get(i).getIsCollided()) {
+                POWER_UP_GRID.insert(coins.get(i));
+            }
+        }
+        for (int i = 0; i < invinciblePowers.size(); i++) {
+            if (!invinciblePowers.get(i).getIsCollided()) {
+                POWER_UP_GRID.insert(invinciblePowers.get(i));
+            }
+        }
+
+        // the query results are only valid until the next query, so each list is used up before the next query
+        ArrayList<PowerUp> taxiPowerUps = POWER_UP_GRID.query(taxi.getX(), taxi.getY(), taxi.getRadius());
+        for (int i = 0; i < taxiPowerUps.size(); i++) {
+            taxiPowerUps.get(i).collide(taxi);
+        }
+        ArrayList<PowerUp> driverPowerUps = POWER_UP_GRID.query(driver.getX(), driver.getY(), driver.getRadius());
+        for (int i = 0; i < driverPowerUps.size(); i++) {
+            driverPowerUps.get(i).collide(driver);
+        }
+    }
+
+    /**
+     * Add every game object to the render queue in world coordinates, in the order they are drawn on the screen.
+     * @param queue The render queue of the current frame.
+     */
+    public void draw(RenderQueue queue) {
+        background1.draw(queue);
+        background2.draw(queue);
+        PROFILER.mark(FramePhase.BACKGROUNDS);
+
+        // the passenger walking with the driver is drawn over the other passengers
+        Passenger driverPassenger = driver.getTrip() != null ? driver.getTripPassenger() : null;
+        for (int i = 0; i < passengers.size(); i++) {
+            if (passengers.get(i) != driverPassenger) {
+                passengers.get(i).draw(queue);
+            }
+        }
+        if (driverPassenger != null) {
+            driverPassenger.draw(queue);
+        }
+        PROFILER.mark(FramePhase.PASSENGERS);
+
+        taxi.draw(queue);
+        PROFILER.mark(FramePhase.TAXI);
+        driver.draw(queue);
+        PROFILER.mark(FramePhase.DRIVER);
+        TRAFFIC.draw(queue);
+        PROFILER.mark(FramePhase.CARS);
+
+        for (int i = 0; i < damagedTaxis.size(); i++) {
+            damagedTaxis.get(i).draw(queue);
+        }
+        PROFILER.mark(FramePhase.DAMAGED_TAXIS);
+
+        for (int i = 0; i < coins.size(); i++) {
+            coins.get(i).draw(queue);
+        }
+        PROFILER.mark(FramePhase.COINS);
+
+        for (int i = 0; i < invinciblePowers.size(); i++) {
+            invinciblePowers.get(i).draw(queue);
+        }
+        PROFILER.mark(FramePhase.INVINCIBLE_POWERS);
+    }
+
+    /**
+     * Check if the game is over.
+     * @param driver The driver object.
+     * @param taxi The active taxi.
+     * @param passengers The passengers of the level.
+     * @return true if the game is over, false otherwise.
+     */
+    public boolean isGameOver(Driver driver, Taxi taxi, ArrayList<Passenger> passengers) {
+        // Game is over if the current frame is greater than the max frames
+        boolean passengerDead = false;
+        for (int i = 0; i < passengers.size(); i++) {
+            if (passengers.get(i).getHealth() <= 0) {
+                passengerDead = true;
+            }
+        }
+
+        boolean isGameOver = (currFrame >= MAX_FRAMES) || (driver.getIsDead()) || (taxi.isOffScreen()) || passengerDead;
+        return isGameOver;
+    }
+
+    /**
+     * Check if the level is completed.
+     * @return true if the level is completed, false otherwise.
+     */
+    public boolean isLevelCompleted() {
+        // Level is completed if the total earnings is greater than or equal to the target earnings
+        return totalEarnings >= TARGET;
+    }
+
+    /**
+     * Check if the game has run for the maximum number of frames.
+     * @return true if no frames are left, false otherwise.
+     */
+    public boolean isTimeUp() {
+        return currFrame >= MAX_FRAMES;
+    }
+
+    /**
+     * Check if one of the coins of the level is active.
+     * @return true if a collected coin is active, false otherwise.
+     */
+    public boolean isCoinActive() {
+        return coinFramesActive != COIN_MAX_FRAMES;
+    }
+
+    public float getCoinFramesActive() {
+        return coinFramesActive;
+    }
+
+    public float getTotalEarnings() {
+        return totalEarnings;
+    }
+
+    public long getSeed() {
+        return SEED;
+    }
+
+    public int getCurrFrame() {
+        return currFrame;
+    }
+
+    public Taxi getTaxi() {
+        return taxi;
+    }
+
+    public Driver getDriver() {
+        return driver;
+    }
+
+    public double getMinPassengerHealth() {
+        return minPassengerHealth;
+    }
+
+    public TrafficManager getTraffic() {
+        return TRAFFIC;
+    }
+
+    public ContactManager getContacts() {
+        return CONTACTS;
+    }
+
+    public LevelStreamer getLevelStreamer() {
+        return levelStreamer;
+    }
+
+    public int getDamagedTaxiCount() {
+        return damagedTaxis.size();
+    }
+
+    public FrameProfiler getProfiler() {
+        return PROFILER;
+    }
+
+    public Camera getCamera() {
+        return CAMERA;
+    }
+}
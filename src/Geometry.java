@@ -0,0 +1,86 @@
+/**
+ * This class contains the distance checks shared by the collisions and the proximity checks of the game objects.
+ * Distances are compared squared, so no check needs a square root, and no method allocates.
+ */
+public class Geometry {
+    /**
+     * Get the squared Euclidean distance between two points.
+     * @param x1 The x-coordinate of the first point.
+     * @param y1 The y-coordinate of the first point.
+     * @param x2 The x-coordinate of the second point.
+     * @param y2 The y-coordinate of the second point.
+     * @return The squared distance between the two points.
+     */
+    public static long distanceSquared(int x1, int y1, int x2, int y2) {
+        long dx = x1 - x2;
+        long dy = y1 - y2;
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * Check if two points are within a distance of each other.
+     * @param x1 The x-coordinate of the first point.
+     * @param y1 The y-coordinate of the first point.
+     * @param x2 The x-coordinate of the second point.
+     * @param y2 The y-coordinate of the second point.
+     * @param distance The largest allowed distance between the points.
+     * @return True if the distance between the points is less than or equal to the given distance, false otherwise.
+     */
+    public static boolean isWithin(int x1, int y1, int x2, int y2, double distance) {
+        return distance >= 0 && distanceSquared(x1, y1, x2, y2) <= distance * distance;
+    }
+
+    /**
+     * Check if two circles overlap or touch.
+     * @param x1 The x-coordinate of the center of the first circle.
+     * @param y1 The y-coordinate of the center of the first circle.
+     * @param r1 The radius of the first circle.
+     * @param x2 The x-coordinate of the center of the second circle.
+     * @param y2 The y-coordinate of the center of the second circle.
+     * @param r2 The radius of the second circle.
+     * @return True if the two circles have collided, false otherwise.
+     */
+    public static boolean circlesOverlap(int x1, int y1, float r1, int x2, int y2, float r2) {
+        return isWithin(x1, y1, x2, y2, (double) r1 + r2);
+    }
+
+    /**
+     * Check if two colliders have collided based on their radii.
+     * @param first One of the colliders.
+     * @param second The other collider.
+     * @return True if the two colliders have collided, false otherwise.
+     */
+    public static boolean circlesOverlap(Collider first, Collider second) {
+        return circlesOverlap(first.getX(), first.getY(), first.getRadius(),
+                second.getX(), second.getY(), second.getRadius());
+    }
+
+    /**
+     * Test one circle against many circles stored in separate coordinate and radius arrays, with the same precision as
+     * circlesOverlap, so both find exactly the same overlaps.
+     * @param x The x-coordinate of the center of the circle.
+     * @param y The y-coordinate of the center of the circle.
+     * @param radius The radius of the circle.
+     * @param xs The x-coordinates of the centers of the circles to test.
+     * @param ys The y-coordinates of the centers of the circles to test.
+     * @param radii The radii of the circles to test.
+     * @param count The number of circles to test.
+     * @param hits The array receiving the indices of the circles which overlap the given circle, in ascending order.
+     * It must have room for count indices.
+     * @return The number of overlapping circles written to hits.
+     */
+    public static int findOverlaps(int x, int y, float radius, int[] xs, int[] ys, float[] radii, int count,
+                                   int[] hits) {
+        int hitCount = 0;
+        for (int i = 0; i < count; i++) {
+            long dx = xs[i] - x;
+            long dy = ys[i] - y;
+            double reach = (double) radii[i] + radius;
+            if (reach >= 0 && dx * dx + dy * dy <= reach * reach) {
+                hits[hitCount] = i;
+                hitCount++;
+            }
+        }
+        return hitCount;
+    }
+}
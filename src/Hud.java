@@ -0,0 +1,59 @@
+import bagel.Font;
+
+/**
+ * The heads-up display of the game play screen, which draws the game information through a set of cached labels.
+ * The labels only compose a new string when the value they show changes, and the number of strings composed in the
+ * current frame is counted, so a steady state without new strings can be confirmed.
+ */
+public class Hud {
+    private final Font FONT;
+
+    private int frameAllocations;
+    private long totalAllocations;
+
+    /**
+     * Constructor for the Hud class.
+     * @param font The font used to draw every label of the display.
+     */
+    public Hud(Font font) {
+        this.FONT = font;
+    }
+
+    /**
+     * Create a label of the display.
+     * @param prefix The resolved message shown in front of the value of the label.
+     * @param x The x-coordinate of the label.
+     * @param y The y-coordinate of the label.
+     * @return The new label.
+     */
+    public HudLabel createLabel(String prefix, int x, int y) {
+        return new HudLabel(this, prefix, x, y);
+    }
+
+    /**
+     * Start counting the strings composed for a new frame.
+     */
+    public void beginFrame() {
+        frameAllocations = 0;
+    }
+
+    /**
+     * Record that a label composed a new string.
+     */
+    public void recordAllocation() {
+        frameAllocations++;
+        totalAllocations++;
+    }
+
+    public Font getFont() {
+        return FONT;
+    }
+
+    public int getFrameAllocations() {
+        return frameAllocations;
+    }
+
+    public long getTotalAllocations() {
+        return totalAllocations;
+    }
+}
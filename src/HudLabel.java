@@ -0,0 +1,123 @@
+import bagel.Font;
+
+/**
+ * A label of the heads-up display, showing a fixed prefix followed by a value.
+ * The composed string is cached and only rebuilt when the value changes. Whole numbers are drawn digit by digit from
+ * a shared table of digit strings instead, so counters which change every frame never compose a new string.
+ */
+public class HudLabel {
+    private static final String[] DIGITS = {"0", "1", "2", "3", "4", "5", "6", "7", "8", "9"};
+    private static final String MINUS = "-";
+    // large enough for every digit of an int
+    private static final int MAX_DIGITS = 10;
+
+    private final Hud HUD;
+    private final String PREFIX;
+    private final int X;
+    private final int Y;
+    private final int[] DIGIT_BUFFER = new int[MAX_DIGITS];
+
+    private String text;
+    private boolean isNumber;
+    private int number;
+    private double value;
+    private boolean hasValue;
+    private double prefixWidth = -1;
+
+    /**
+     * Constructor for the HudLabel class.
+     * @param hud The display which owns the label.
+     * @param prefix The resolved message shown in front of the value.
+     * @param x The x-coordinate of the label.
+     * @param y The y-coordinate of the label.
+     */
+    public HudLabel(Hud hud, String prefix, int x, int y) {
+        this.HUD = hud;
+        this.PREFIX = prefix;
+        this.X = x;
+        this.Y = y;
+    }
+
+    /**
+     * Show a fixed text, which replaces the prefix of the label.
+     * @param text The text to show.
+     */
+    public void setText(String text) {
+        this.text = text;
+        this.isNumber = false;
+        this.hasValue = false;
+    }
+
+    /**
+     * Show a whole number after the prefix. The number is drawn digit by digit, so no string is composed.
+     * @param number The number to show.
+     */
+    public void setNumber(int number) {
+        this.number = number;
+        this.isNumber = true;
+    }
+
+    /**
+     * Show a number with two decimal places after the prefix. The string is only rebuilt when the value changes.
+     * @param value The value to show.
+     */
+    public void setDecimal(double value) {
+        if (!hasValue || isNumber || value != this.value) {
+            this.text = PREFIX + String.format("%.02f", value);
+            HUD.recordAllocation();
+        }
+        this.value = value;
+        this.hasValue = true;
+        this.isNumber = false;
+    }
+
+    /**
+     * Show a float in its default string form after the prefix. The string is only rebuilt when the value changes.
+     * @param value The value to show.
+     */
+    public void setValue(float value) {
+        if (!hasValue || isNumber || value != this.value) {
+            this.text = PREFIX + value;
+            HUD.recordAllocation();
+        }
+        this.value = value;
+        this.hasValue = true;
+        this.isNumber = false;
+    }
+
+    /**
+     * Draw the label with the font of the display.
+     */
+    public void draw() {
+        Font font = HUD.getFont();
+        if (!isNumber) {
+            font.drawString(text, X, Y);
+            return;
+        }
+
+        if (prefixWidth < 0) {
+            prefixWidth = font.getWidth(PREFIX);
+        }
+        font.drawString(PREFIX, X, Y);
+
+        double x = X + prefixWidth;
+        // int division keeps the sign, so the digits are taken from the negated remainders of negative numbers
+        int remaining = number;
+        if (remaining < 0) {
+            font.drawString(MINUS, x, Y);
+            x += font.getWidth(MINUS);
+        }
+
+        int digitCount = 0;
+        do {
+            DIGIT_BUFFER[digitCount++] = Math.abs(remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+
+        for (int i = digitCount - 1; i >= 0; i--) {
+            String digit = DIGITS[DIGIT_BUFFER[i]];
+            font.drawString(digit, x, Y);
+            x += font.getWidth(digit);
+        }
+    }
+}
@@ -1,63 +1,54 @@
-import java.io.*;
-import java.util.ArrayList;
-import java.util.Properties;
-
-/**
- * A utility class that provides methods to read and write files.
- */
-public class IOUtils {
-
-    /***
-     * Read a file and return a list of String arrays
-     * @param file: the path to the CSV file
-     * @return: ArrayList<String[]>. Each String[] array represents elements in a single line in the CSV file
-     */
-    public static ArrayList<String[]> readCommaSeparatedFile(String file) {
-        ArrayList<String[]> lines = new ArrayList<>();
-        try {
-            BufferedReader reader = new BufferedReader(new FileReader(file));
-            String textRead;
-            while ((textRead = reader.readLine()) != null) {
-                String[] splitText = textRead.split(",");
-                lines.add(splitText);
-            }
-        } catch (IOException ex) {
-            ex.printStackTrace();
-            System.exit(-1);
-        }
-        return lines;
-    }
-
-    /***
-     * Read a properties file and return a Properties object
-     * @param configFile: the path to the properties file
-     * @return: Properties object
-     */
-    public static Properties readPropertiesFile(String configFile) {
-        Properties appProps = new Properties();
-        try {
-            appProps.load(new FileInputStream(configFile));
-        } catch(IOException ex) {
-            ex.printStackTrace();
-            System.exit(-1);
-        }
-
-        return appProps;
-    }
-
-    /**
-     * Write a score to a file
-     * @param filename The name of the file
-     * @param score The score to be written
-     */
-    public static void writeScoreToFile(String filename, String score) {
-        try(FileWriter fw = new FileWriter(filename, true);
-            BufferedWriter bw = new BufferedWriter(fw);
-            PrintWriter out = new PrintWriter(bw))
-        {
-            out.println(score);
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-    }
+import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Properties;
+
+/**
+ * A utility class that provides methods to read files.
+ */
+public class IOUtils {
+
+    /**
+     * Open a comma-separated file for streaming. The file is mapped into memory, and its lines are read one at a time
+     * with the fields decoded in place. The file itself is closed straight away, since the mapping stays valid
+     * without it.
+     * @param file The path to the CSV file.
+     * @return A reader positioned before the first line of the file.
+     * @throws IOException if the file cannot be opened or mapped.
+     */
+    public static CsvReader openCommaSeparatedFile(String file) throws IOException {
+        return openCommaSeparatedFile(file, 0);
+    }
+
+    /**
+     * Open the rest of a comma-separated file for streaming, starting from a line which is not the first.
+     * @param file The path to the CSV file.
+     * @param offset The byte offset of the first line to read.
+     * @return A reader positioned before the line at the offset. Line numbers are counted from that line.
+     * @throws IOException if the file cannot be opened or mapped.
+     */
+    public static CsvReader openCommaSeparatedFile(String file, long offset) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(file), StandardOpenOption.READ)) {
+            long start = Math.min(offset, channel.size());
+            return new CsvReader(channel.map(FileChannel.MapMode.READ_ONLY, start, channel.size() - start), file);
+        }
+    }
+
+    /***
+     * Read a properties file and return a Properties object
+     * @param configFile: the path to the properties file
+     * @return: Properties object
+     */
+    public static Properties readPropertiesFile(String configFile) {
+        Properties appProps = new Properties();
+        try {
+            appProps.load(new FileInputStream(configFile));
+        } catch(IOException ex) {
+            ex.printStackTrace();
+            System.exit(-1);
+        }
+
+        return appProps;
+    }
 }
\ No newline at end of file
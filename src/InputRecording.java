@@ -0,0 +1,225 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A recording of a game session: the random seed and the controls of every frame, together with the outcome of the
+ * game. Since the game play only depends on the seed and the controls, playing the controls back into a game world
+ * with the same seed and level reproduces the session exactly.
+ * The controls are stored as runs of frames with the same snapshot, and each run is written as two variable-length
+ * numbers, so a recording takes a few bytes for each change of the controls rather than for each frame.
+ */
+public class InputRecording {
+    // "STRC", for shadow taxi recording
+    private static final int MAGIC = 0x53545243;
+    private static final int VERSION = 1;
+    private static final int INITIAL_RUN_CAPACITY = 64;
+
+    private final long SEED;
+    private int[] runCodes;
+    private int[] runLengths;
+    private int runCount;
+    private int frameCount;
+
+    // the outcome of the game, known once it has finished
+    private boolean isFinished;
+    private float finalEarnings;
+    private double finalTaxiHealth;
+    private double finalDriverHealth;
+    private double finalPassengerHealth;
+
+    /**
+     * Constructor for the InputRecording class, which starts an empty recording.
+     * @param seed The seed of the random numbers of the game.
+     */
+    public InputRecording(long seed) {
+        this.SEED = seed;
+        this.runCodes = new int[INITIAL_RUN_CAPACITY];
+        this.runLengths = new int[INITIAL_RUN_CAPACITY];
+    }
+
+    /**
+     * Record the controls of the next frame.
+     * @param controls The snapshot of the controls of the frame.
+     */
+    public void record(InputSnapshot controls) {
+        int code = controls.getCode();
+        if (runCount > 0 && runCodes[runCount - 1] == code) {
+            runLengths[runCount - 1]++;
+        } else {
+            addRun(code, 1);
+        }
+        frameCount++;
+    }
+
+    private void addRun(int code, int length) {
+        if (runCount == runCodes.length) {
+            runCodes = Arrays.copyOf(runCodes, runCount * 2);
+            runLengths = Arrays.copyOf(runLengths, runCount * 2);
+        }
+        runCodes[runCount] = code;
+        runLengths[runCount] = length;
+        runCount++;
+    }
+
+    /**
+     * Record the outcome of the finished game, which a replay is checked against.
+     * @param world The game world at the end of the game.
+     */
+    public void finish(GameWorld world) {
+        isFinished = true;
+        finalEarnings = world.getTotalEarnings();
+        finalTaxiHealth = world.getTaxi().getHealth();
+        finalDriverHealth = world.getDriver().getHealth();
+        finalPassengerHealth = world.getMinPassengerHealth();
+    }
+
+    /**
+     * Check a replayed game against the recorded outcome.
+     * @param world The game world at the end of the replay.
+     * @return A description of the first difference, or null if the replay ended the same way.
+     */
+    public String compareOutcome(GameWorld world) {
+        if (!isFinished) {
+            return "the recorded game did not finish";
+        } else if (world.getCurrFrame() != frameCount) {
+            return String.format("ended at frame %d, recorded %d", world.getCurrFrame(), frameCount);
+        } else if (Float.compare(world.getTotalEarnings(), finalEarnings) != 0) {
+            return String.format("earnings %s, recorded %s", world.getTotalEarnings(), finalEarnings);
+        } else if (Double.compare(world.getTaxi().getHealth(), finalTaxiHealth) != 0) {
+            return String.format("taxi health %s, recorded %s", world.getTaxi().getHealth(), finalTaxiHealth);
+        } else if (Double.compare(world.getDriver().getHealth(), finalDriverHealth) != 0) {
+            return String.format("driver health %s, recorded %s", world.getDriver().getHealth(), finalDriverHealth);
+        } else if (Double.compare(world.getMinPassengerHealth(), finalPassengerHealth) != 0) {
+            return String.format("passenger health %s, recorded %s", world.getMinPassengerHealth(),
+                    finalPassengerHealth);
+        }
+        return null;
+    }
+
+    /**
+     * Save the recording.
+     * @param file The path of the recording file, which is replaced if it exists.
+     * @throws IOException if the file cannot be written.
+     */
+    public void write(String file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(SEED);
+            out.writeBoolean(isFinished);
+            out.writeFloat(finalEarnings);
+            out.writeDouble(finalTaxiHealth);
+            out.writeDouble(finalDriverHealth);
+            out.writeDouble(finalPassengerHealth);
+
+            writeVarint(out, runCount);
+            for (int i = 0; i < runCount; i++) {
+                writeVarint(out, runCodes[i]);
+                writeVarint(out, runLengths[i]);
+            }
+        }
+    }
+
+    /**
+     * Load a recording saved by write.
+     * @param file The path of the recording file.
+     * @return The recording.
+     * @throws IOException if the file cannot be read.
+     * @throws IllegalArgumentException if the file is not a recording of this version, or is damaged.
+     */
+    public static InputRecording read(String file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IllegalArgumentException("Not an input recording: " + file);
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IllegalArgumentException(String.format(
+                        "Input recording %s has version %d, expected %d", file, version, VERSION));
+            }
+
+            InputRecording recording = new InputRecording(in.readLong());
+            recording.isFinished = in.readBoolean();
+            recording.finalEarnings = in.readFloat();
+            recording.finalTaxiHealth = in.readDouble();
+            recording.finalDriverHealth = in.readDouble();
+            recording.finalPassengerHealth = in.readDouble();
+
+            int runCount = readVarint(in);
+            for (int i = 0; i < runCount; i++) {
+                int code = readVarint(in);
+                int length = readVarint(in);
+                // checks the code before the replay reaches it
+                InputSnapshot.ofCode(code);
+                recording.addRun(code, length);
+                recording.frameCount += length;
+            }
+            return recording;
+        } catch (EOFException e) {
+            throw new IllegalArgumentException("Input recording " + file + " is truncated", e);
+        }
+    }
+
+    /**
+     * Write a non-negative number in 7-bit groups, from the lowest, where the top bit of a byte marks that another
+     * byte follows.
+     * @param out The stream to write to.
+     * @param value The number.
+     * @throws IOException if the stream cannot be written.
+     */
+    private static void writeVarint(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /**
+     * Read a number written by writeVarint.
+     * @param in The stream to read from.
+     * @return The number.
+     * @throws IOException if the stream cannot be read.
+     */
+    private static int readVarint(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed number in the input recording");
+    }
+
+    public long getSeed() {
+        return SEED;
+    }
+
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    public int getRunCount() {
+        return runCount;
+    }
+
+    public InputSnapshot getRunControls(int run) {
+        return InputSnapshot.ofCode(runCodes[run]);
+    }
+
+    public int getRunLength(int run) {
+        return runLengths[run];
+    }
+}
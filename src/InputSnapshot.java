@@ -0,0 +1,124 @@
+import java.io.Serializable;
+
+/**
+ * An immutable snapshot of the game play controls for one frame. The snapshot is captured once per frame and shared
+ * by every game object, which reads each control as a bit of the snapshot instead of querying the keyboard.
+ * Each combination of controls has one shared instance, so capturing a snapshot does not allocate. Snapshots are
+ * serializable, so recorded or scripted controls can be played through the same type.
+ */
+public final class InputSnapshot implements ControlInput, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final int CONTROL_COUNT = Control.values().length;
+    private static final int ALL_CONTROLS = (1 << CONTROL_COUNT) - 1;
+    private static final InputSnapshot[] INSTANCES = new InputSnapshot[1 << (3 * CONTROL_COUNT)];
+
+    /**
+     * The snapshot of a frame in which no control is touched.
+     */
+    public static final InputSnapshot IDLE = of(0, 0, 0);
+
+    private final int DOWN_MASK;
+    private final int PRESSED_MASK;
+    private final int RELEASED_MASK;
+
+    private InputSnapshot(int downMask, int pressedMask, int releasedMask) {
+        this.DOWN_MASK = downMask;
+        this.PRESSED_MASK = pressedMask;
+        this.RELEASED_MASK = releasedMask;
+    }
+
+    /**
+     * Get the snapshot for a combination of controls. Each mask holds one bit per control, see maskOf.
+     * @param downMask The controls held down in the frame.
+     * @param pressedMask The controls pressed in the frame.
+     * @param releasedMask The controls released in the frame.
+     * @return The shared snapshot of the controls.
+     * @throws IllegalArgumentException if a mask has a bit which is not a control.
+     */
+    public static InputSnapshot of(int downMask, int pressedMask, int releasedMask) {
+        if ((downMask | pressedMask | releasedMask) > ALL_CONTROLS || (downMask | pressedMask | releasedMask) < 0) {
+            throw new IllegalArgumentException("Invalid control mask: " + downMask + ", " + pressedMask + ", "
+                    + releasedMask);
+        }
+
+        int index = encode(downMask, pressedMask, releasedMask);
+        synchronized (INSTANCES) {
+            InputSnapshot snapshot = INSTANCES[index];
+            if (snapshot == null) {
+                snapshot = new InputSnapshot(downMask, pressedMask, releasedMask);
+                INSTANCES[index] = snapshot;
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * Get the snapshot of a code returned by getCode.
+     * @param code The code of the controls.
+     * @return The shared snapshot of the controls.
+     * @throws IllegalArgumentException if the code is not the code of a snapshot.
+     */
+    public static InputSnapshot ofCode(int code) {
+        if (code < 0 || code >= INSTANCES.length) {
+            throw new IllegalArgumentException("Invalid control code: " + code);
+        }
+        return of(code & ALL_CONTROLS, (code >> CONTROL_COUNT) & ALL_CONTROLS, code >> (2 * CONTROL_COUNT));
+    }
+
+    private static int encode(int downMask, int pressedMask, int releasedMask) {
+        return downMask | (pressedMask << CONTROL_COUNT) | (releasedMask << (2 * CONTROL_COUNT));
+    }
+
+    /**
+     * Get the bit of a control in the control masks.
+     * @param control The control.
+     * @return The mask with only the bit of the control set.
+     */
+    public static int maskOf(Control control) {
+        return 1 << control.ordinal();
+    }
+
+    @Override
+    public boolean isDown(Control control) {
+        return (DOWN_MASK & maskOf(control)) != 0;
+    }
+
+    @Override
+    public boolean wasPressed(Control control) {
+        return (PRESSED_MASK & maskOf(control)) != 0;
+    }
+
+    @Override
+    public boolean wasReleased(Control control) {
+        return (RELEASED_MASK & maskOf(control)) != 0;
+    }
+
+    public int getDownMask() {
+        return DOWN_MASK;
+    }
+
+    public int getPressedMask() {
+        return PRESSED_MASK;
+    }
+
+    public int getReleasedMask() {
+        return RELEASED_MASK;
+    }
+
+    /**
+     * Get the controls of the snapshot packed into one small number, used to store the snapshot compactly.
+     * @return The code of the controls, which has three bits per control.
+     */
+    public int getCode() {
+        return encode(DOWN_MASK, PRESSED_MASK, RELEASED_MASK);
+    }
+
+    /**
+     * Replace a deserialized snapshot with the shared instance of its controls.
+     * @return The shared snapshot.
+     */
+    private Object readResolve() {
+        return of(DOWN_MASK, PRESSED_MASK, RELEASED_MASK);
+    }
+}
@@ -1,6 +1,3 @@
-import bagel.Image;
-import java.util.Properties;
-
 /**
  * Class representing the invincible power-up in the game. When collected, it grants the player temporary invincibility.
  */
@@ -10,17 +7,17 @@ public class InvinciblePower extends PowerUp{
 	 * Constructor for the InvinciblePower class.
 	 * @param x The x-coordinate of the invincible power-up.
 	 * @param y The y-coordinate of the invincible power-up.
-	 * @param props The properties object containing invincible power-up configurations such as image, speed, and radius.
+	 * @param config The game configuration containing invincible power-up settings such as image and radius.
+	 * @param colliderIds The source of the collider identifiers of the game world.
 	 */
-	public InvinciblePower(int x, int y, Properties props) {
+	public InvinciblePower(int x, int y, GameConfig config, ColliderIds colliderIds) {
+		super(colliderIds);
 		this.x = x;
 		this.y = y;
-		this.moveY = 0;
 
-		this.SPEED_Y = Integer.parseInt(props.getProperty("gameObjects.taxi.speedY"));
-		this.RADIUS = Float.parseFloat(props.getProperty("gameObjects.invinciblePower.radius"));
-		this.IMAGE = new Image(props.getProperty("gameObjects.invinciblePower.image"));
-		this.MAX_FRAMES = Integer.parseInt(props.getProperty("gameObjects.invinciblePower.maxFrames"));
+		this.RADIUS = config.getInvinciblePowerRadius();
+		this.IMAGE_FILE = config.getInvinciblePowerImage();
+		this.MAX_FRAMES = config.getInvinciblePowerMaxFrames();
 	}
 
 }
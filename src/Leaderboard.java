@@ -0,0 +1,297 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * The leaderboard of the game, which keeps the top scores of all game plays.
+ * The scores file is an append-only log with one line per game play. The top scores are kept in a small sorted array
+ * which is updated as scores are recorded, and are saved to an index file next to the log together with the length of
+ * the log they cover. Opening the leaderboard reads the index and only scans the lines appended to the log since,
+ * so the scores file is scanned in full only when the index is missing or does not match the log.
+ * The index also holds a histogram of all the scores, so a score can be ranked among every game play without
+ * reading the log.
+ * Recorded scores are shown straight away, but are written to the log and the index by a ScoreWriter in the
+ * background. The index only ever holds scores which are already in the log.
+ */
+public class Leaderboard implements AutoCloseable {
+    // "STLB", for shadow taxi leaderboard
+    private static final int MAGIC = 0x53544C42;
+    private static final int VERSION = 2;
+    private static final String INDEX_SUFFIX = ".idx";
+    // the histogram ranks scores from 0 to 2048 to a quarter of a point
+    private static final int HISTOGRAM_BUCKET_COUNT = 8192;
+    private static final double HISTOGRAM_BUCKET_WIDTH = 0.25;
+
+    private final String LOG_FILE;
+    private final String INDEX_FILE;
+    private final int CAPACITY;
+    // the scores in the log and in the index, only used by the score writer once it has started
+    private final Ranking COMMITTED;
+    // the scores shown, which also include the scores still being written
+    private Ranking recorded;
+    // started by the first score recorded, so reading the leaderboard does not start a thread
+    private ScoreWriter writer;
+
+    private long indexedLength;
+
+    /**
+     * The top scores among a number of scores, from the highest, and the histogram of all of them. Equal scores are
+     * kept in the order they were added.
+     */
+    private static class Ranking {
+        private final Score[] TOP_SCORES;
+        private final ScoreHistogram HISTOGRAM;
+        private int topCount;
+        private long scoreCount;
+
+        private Ranking(int capacity, ScoreHistogram histogram) {
+            this.TOP_SCORES = new Score[capacity];
+            this.HISTOGRAM = histogram;
+        }
+
+        /**
+         * Add a score, keeping it if it ranks among the top scores.
+         * @param score The score to add.
+         */
+        private void offer(Score score) {
+            scoreCount++;
+            HISTOGRAM.add(score.getScore());
+            int capacity = TOP_SCORES.length;
+            if (topCount == capacity && Double.compare(score.getScore(), TOP_SCORES[topCount - 1].getScore()) <= 0) {
+                return;
+            }
+
+            // the lowest top score drops out when the ranking is full
+            int index = topCount < capacity ? topCount++ : capacity - 1;
+            while (index > 0 && Double.compare(TOP_SCORES[index - 1].getScore(), score.getScore()) < 0) {
+                TOP_SCORES[index] = TOP_SCORES[index - 1];
+                index--;
+            }
+            TOP_SCORES[index] = score;
+        }
+
+        private void clear() {
+            Arrays.fill(TOP_SCORES, null);
+            HISTOGRAM.clear();
+            topCount = 0;
+            scoreCount = 0;
+        }
+
+        private Ranking copy() {
+            Ranking copy = new Ranking(TOP_SCORES.length, HISTOGRAM.copy());
+            System.arraycopy(TOP_SCORES, 0, copy.TOP_SCORES, 0, topCount);
+            copy.topCount = topCount;
+            copy.scoreCount = scoreCount;
+            return copy;
+        }
+    }
+
+    private Leaderboard(String logFile, int capacity) {
+        this.LOG_FILE = logFile;
+        this.INDEX_FILE = logFile + INDEX_SUFFIX;
+        this.CAPACITY = capacity;
+        this.COMMITTED = new Ranking(capacity,
+                new ScoreHistogram(HISTOGRAM_BUCKET_COUNT, HISTOGRAM_BUCKET_WIDTH));
+    }
+
+    /**
+     * Open the leaderboard of a scores file, bringing its index up to date with the scores appended since it was
+     * saved.
+     * @param scoresFile The path to the scores file.
+     * @param capacity The number of top scores to keep.
+     * @return The leaderboard.
+     * @throws UncheckedIOException if the scores file cannot be read.
+     * @throws IllegalArgumentException if a line of the scores file is malformed.
+     */
+    public static Leaderboard open(String scoresFile, int capacity) {
+        Leaderboard leaderboard = new Leaderboard(scoresFile, capacity);
+        long logLength = new File(scoresFile).length();
+        if (!leaderboard.readIndex() || leaderboard.indexedLength > logLength) {
+            // the log was replaced or truncated, so the index no longer describes it
+            leaderboard.COMMITTED.clear();
+            leaderboard.indexedLength = 0;
+        }
+
+        if (leaderboard.indexedLength < logLength) {
+            leaderboard.scanLog();
+            leaderboard.writeIndex();
+        }
+
+        leaderboard.recorded = leaderboard.COMMITTED.copy();
+        return leaderboard;
+    }
+
+    /**
+     * Record the score of a game play. The score is shown straight away, and is appended to the scores file in the
+     * background.
+     * @param playerName The name of the player.
+     * @param score The score achieved by the player.
+     * @return The recorded score.
+     */
+    public Score record(String playerName, float score) {
+        String scoreText = Float.toString(score);
+        // the score is kept as it reads back from the log, so a rebuilt index is the same
+        Score entry = new Score(playerName, Double.parseDouble(scoreText));
+        recorded.offer(entry);
+        if (writer == null) {
+            writer = new ScoreWriter(LOG_FILE, this);
+        }
+        writer.append(entry, playerName + "," + scoreText);
+        return entry;
+    }
+
+    /**
+     * Add scores which are now in the log to the index, and save it. Called by the score writer.
+     * @param scores The scores appended to the log, in order.
+     * @param logLength The length of the log after the scores.
+     */
+    void commit(ArrayList<Score> scores, long logLength) {
+        for (Score score : scores) {
+            COMMITTED.offer(score);
+        }
+        indexedLength = logLength;
+        writeIndex();
+    }
+
+    /**
+     * Write the recorded scores which are still queued, and stop the score writer.
+     */
+    @Override
+    public void close() {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    /**
+     * Add the scores appended to the log since the index was saved.
+     */
+    private void scanLog() {
+        try (CsvReader reader = IOUtils.openCommaSeparatedFile(LOG_FILE, indexedLength)) {
+            while (reader.next()) {
+                COMMITTED.offer(new Score(reader.getString(0), reader.getDouble(1)));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the scores file " + LOG_FILE, e);
+        }
+        indexedLength = new File(LOG_FILE).length();
+    }
+
+    /**
+     * Read the saved index of the log.
+     * @return true if the index was read, false if it is missing, unreadable or was saved with another capacity.
+     */
+    private boolean readIndex() {
+        File file = new File(INDEX_FILE);
+        if (!file.isFile()) {
+            return false;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readInt() != CAPACITY) {
+                return false;
+            }
+            indexedLength = in.readLong();
+            COMMITTED.scoreCount = in.readLong();
+            int topCount = in.readInt();
+            if (topCount < 0 || topCount > CAPACITY) {
+                return false;
+            }
+            for (int i = 0; i < topCount; i++) {
+                String playerName = in.readUTF();
+                COMMITTED.TOP_SCORES[i] = new Score(playerName, in.readDouble());
+            }
+            COMMITTED.topCount = topCount;
+            return COMMITTED.HISTOGRAM.read(in);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Save the index of the log. The index is written to a temporary file which then replaces the old index, so a
+     * crash never leaves a partly written index behind. The index can always be rebuilt from the log, so a failure is
+     * only reported.
+     */
+    private void writeIndex() {
+        Path index = Paths.get(INDEX_FILE);
+        Path temporary = Paths.get(INDEX_FILE + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(temporary.toFile())))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(CAPACITY);
+                out.writeLong(indexedLength);
+                out.writeLong(COMMITTED.scoreCount);
+                out.writeInt(COMMITTED.topCount);
+                for (int i = 0; i < COMMITTED.topCount; i++) {
+                    out.writeUTF(COMMITTED.TOP_SCORES[i].getPlayerName());
+                    out.writeDouble(COMMITTED.TOP_SCORES[i].getScore());
+                }
+                COMMITTED.HISTOGRAM.write(out);
+            }
+
+            try {
+                Files.move(temporary, index, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, index, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Get the top scores, from the highest.
+     * @return The top scores. There are fewer than the capacity if fewer scores have been recorded.
+     */
+    public Score[] getTopScores() {
+        return Arrays.copyOf(recorded.TOP_SCORES, recorded.topCount);
+    }
+
+    /**
+     * Get the rank of a score among all the recorded scores, where the highest score ranks first. Scores within a
+     * quarter of a point of each other share their rank.
+     * @param score The score.
+     * @return The rank of the score, starting from 1.
+     */
+    public long getRank(double score) {
+        return recorded.HISTOGRAM.countAbove(score) + 1;
+    }
+
+    /**
+     * Get the share of the recorded scores which are lower than a score.
+     * @param score The score.
+     * @return The percentage of the recorded scores below the score, or 0 if no scores are recorded.
+     */
+    public double getPercentile(double score) {
+        long total = recorded.HISTOGRAM.getTotal();
+        return total == 0 ? 0 : 100.0 * recorded.HISTOGRAM.countBelow(score) / total;
+    }
+
+    public long getScoreCount() {
+        return recorded.scoreCount;
+    }
+
+    /**
+     * Get the writer appending the recorded scores to the scores file, which holds the metrics of the writes.
+     * @return The score writer, or null if no score has been recorded yet.
+     */
+    public ScoreWriter getWriter() {
+        return writer;
+    }
+}
@@ -0,0 +1,166 @@
+import java.util.Arrays;
+
+/**
+ * The game objects of a level, held as a compact table of descriptors instead of game objects.
+ * Each descriptor is the type, the position and, for passengers, the travel plan of one object, packed into a single
+ * int array. The descriptors can be ordered by their y-coordinate, from the bottom of the level to the top, which is
+ * the order the taxi reaches them in.
+ */
+public class Level {
+    // values per descriptor: type, x, y, priority, trip end x and trip distance y
+    private static final int STRIDE = 6;
+    private static final int TYPE = 0;
+    private static final int X = 1;
+    private static final int Y = 2;
+    private static final int PRIORITY = 3;
+    private static final int END_X = 4;
+    private static final int DISTANCE_Y = 5;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final GameObjectType[] TYPES = GameObjectType.values();
+
+    private int[] descriptors;
+    private int size;
+
+    /**
+     * Constructor for the Level class, which creates a level without game objects.
+     */
+    public Level() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructor for the Level class, which creates a level without game objects and room for a number of them.
+     * @param capacity The number of game objects the level can hold before growing.
+     */
+    public Level(int capacity) {
+        this.descriptors = new int[Math.max(capacity, 1) * STRIDE];
+    }
+
+    /**
+     * Read a level from a game objects file. Lines of types which are not game objects, such as the driver, are
+     * skipped, since the driver starts in the taxi.
+     * @param reader The reader of the game objects file.
+     * @return The level, ordered by the y-coordinates of its game objects.
+     * @throws IllegalArgumentException if a line of a game object is malformed.
+     */
+    public static Level read(CsvReader reader) {
+        Level level = new Level();
+        while (reader.next()) {
+            GameObjectType type = reader.findEnum(0, TYPES);
+            if (type == null) {
+                continue;
+            }
+
+            int x = reader.getInt(1);
+            int y = reader.getInt(2);
+            if (type == GameObjectType.PASSENGER) {
+                level.add(type, x, y, reader.getInt(3), reader.getInt(4), reader.getInt(5));
+            } else {
+                level.add(type, x, y, 0, 0, 0);
+            }
+        }
+        level.sortByY();
+        return level;
+    }
+
+    /**
+     * Add a game object to the level.
+     * @param type The type of the game object.
+     * @param x The x-coordinate of the game object.
+     * @param y The y-coordinate of the game object.
+     * @param priority The priority of a passenger, or 0 for other game objects.
+     * @param endX The x-coordinate of the trip end of a passenger, or 0 for other game objects.
+     * @param distanceY The trip distance of a passenger, or 0 for other game objects.
+     */
+    public void add(GameObjectType type, int x, int y, int priority, int endX, int distanceY) {
+        if ((size + 1) * STRIDE > descriptors.length) {
+            descriptors = Arrays.copyOf(descriptors, descriptors.length * 2);
+        }
+
+        int offset = size * STRIDE;
+        descriptors[offset + TYPE] = type.ordinal();
+        descriptors[offset + X] = x;
+        descriptors[offset + Y] = y;
+        descriptors[offset + PRIORITY] = priority;
+        descriptors[offset + END_X] = endX;
+        descriptors[offset + DISTANCE_Y] = distanceY;
+        size++;
+    }
+
+    /**
+     * Order the game objects from the largest y-coordinate to the smallest. Game objects at the same y-coordinate
+     * keep the order they were added in.
+     */
+    public void sortByY() {
+        // the key sorts by the negated y first, and by the index second
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = ((long) -getY(i) << 32) | i;
+        }
+        Arrays.sort(keys);
+
+        int[] sorted = new int[descriptors.length];
+        for (int i = 0; i < size; i++) {
+            int index = (int) keys[i];
+            System.arraycopy(descriptors, index * STRIDE, sorted, i * STRIDE, STRIDE);
+        }
+        descriptors = sorted;
+    }
+
+    /**
+     * Find the first game object of a type.
+     * @param type The type of the game object.
+     * @return The index of the first game object of the type, or -1 if the level has none.
+     */
+    public int indexOf(GameObjectType type) {
+        for (int i = 0; i < size; i++) {
+            if (descriptors[i * STRIDE + TYPE] == type.ordinal()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Count the game objects of a type.
+     * @param type The type of the game objects.
+     * @return The number of game objects of the type in the level.
+     */
+    public int count(GameObjectType type) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (descriptors[i * STRIDE + TYPE] == type.ordinal()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public GameObjectType getType(int index) {
+        return TYPES[descriptors[index * STRIDE + TYPE]];
+    }
+
+    public int getX(int index) {
+        return descriptors[index * STRIDE + X];
+    }
+
+    public int getY(int index) {
+        return descriptors[index * STRIDE + Y];
+    }
+
+    public int getPriority(int index) {
+        return descriptors[index * STRIDE + PRIORITY];
+    }
+
+    public int getEndX(int index) {
+        return descriptors[index * STRIDE + END_X];
+    }
+
+    public int getDistanceY(int index) {
+        return descriptors[index * STRIDE + DISTANCE_Y];
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,53 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+
+/**
+ * A command-line tool which compiles the game objects file and the weather file of a level into a compiled level
+ * file, which the game play loads instead of the CSV files.
+ * Usage: {@code java LevelCompiler [objectsFile weatherFile levelFile]}. Without arguments, the files configured in
+ * res/app.properties are used.
+ */
+public class LevelCompiler {
+
+    /**
+     * Compile a level.
+     * @param args Either no arguments, or the game objects file, the weather file and the compiled level file.
+     */
+    public static void main(String[] args) throws IOException {
+        String objectsFile;
+        String weatherFile;
+        String levelFile;
+        if (args.length == 3) {
+            objectsFile = args[0];
+            weatherFile = args[1];
+            levelFile = args[2];
+        } else if (args.length == 0) {
+            Properties gameProps = IOUtils.readPropertiesFile("res/app.properties");
+            GameConfig config = new GameConfig(gameProps);
+            if (config.getLevelFile() == null) {
+                System.err.println("No gamePlay.levelFile is configured in res/app.properties");
+                System.exit(1);
+            }
+            objectsFile = config.getObjectsFile();
+            weatherFile = config.getWeatherFile();
+            levelFile = config.getLevelFile();
+        } else {
+            System.err.println("Usage: java LevelCompiler [objectsFile weatherFile levelFile]");
+            System.exit(1);
+            return;
+        }
+
+        long start = System.nanoTime();
+        LevelFile level = LevelFile.fromCsv(objectsFile, weatherFile);
+        // the weather is validated now rather than when the game play starts
+        level.createWeatherTimeline();
+        Path output = Paths.get(levelFile);
+        level.write(output);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.printf("Compiled %d game objects and %d weather intervals into %s (%d bytes) in %d ms%n",
+                level.getLevel().size(), level.getWeatherCount(), output, level.getCompiledSize(), elapsedMillis);
+    }
+}
@@ -0,0 +1,233 @@
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * The game objects and the weather of a level, read from the CSV files or from a compiled level file.
+ * A compiled level file holds the same data in binary form, so loading it needs no string splitting or number
+ * parsing. The file starts with a header, followed by one record per game object and one record per weather interval:
+ * <pre>
+ * header:  int magic, int version, int game object count, int weather interval count
+ * object:  byte type, int x, int y, and for a passenger also int priority, int trip end x, int trip distance y
+ * weather: byte condition, int start frame, int end frame
+ * </pre>
+ * Types and conditions are stored by their position in GameObjectType and WeatherCondition, and all ints are
+ * big-endian.
+ */
+public class LevelFile {
+    // "STLV", for shadow taxi level
+    private static final int MAGIC = 0x53544C56;
+    // the version must change whenever the record layout or the order of the enums changes
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 4 * Integer.BYTES;
+    private static final int OBJECT_BYTES = 1 + 2 * Integer.BYTES;
+    private static final int PASSENGER_BYTES = OBJECT_BYTES + 3 * Integer.BYTES;
+    private static final int WEATHER_BYTES = 1 + 2 * Integer.BYTES;
+    private static final int INITIAL_WEATHER_CAPACITY = 16;
+    private static final GameObjectType[] TYPES = GameObjectType.values();
+    private static final WeatherCondition[] CONDITIONS = WeatherCondition.values();
+
+    private final Level LEVEL;
+    private final WeatherCondition[] WEATHER_CONDITIONS;
+    private final int[] WEATHER_START_FRAMES;
+    private final int[] WEATHER_END_FRAMES;
+
+    private LevelFile(Level level, WeatherCondition[] conditions, int[] startFrames, int[] endFrames) {
+        this.LEVEL = level;
+        this.WEATHER_CONDITIONS = conditions;
+        this.WEATHER_START_FRAMES = startFrames;
+        this.WEATHER_END_FRAMES = endFrames;
+    }
+
+    /**
+     * Load the level of the game play. The compiled level file is used if it is configured, exists and is not older
+     * than the CSV files it was compiled from; otherwise the CSV files are read.
+     * @param config The game configuration containing the paths of the level files.
+     * @return The level.
+     */
+    public static LevelFile load(GameConfig config) {
+        String levelFile = config.getLevelFile();
+        try {
+            if (levelFile != null && isUpToDate(levelFile, config.getObjectsFile(), config.getWeatherFile())) {
+                return read(Paths.get(levelFile));
+            }
+            return fromCsv(config.getObjectsFile(), config.getWeatherFile());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the level", e);
+        }
+    }
+
+    private static boolean isUpToDate(String levelFile, String objectsFile, String weatherFile) {
+        File compiled = new File(levelFile);
+        return compiled.isFile()
+                && compiled.lastModified() >= new File(objectsFile).lastModified()
+                && compiled.lastModified() >= new File(weatherFile).lastModified();
+    }
+
+    /**
+     * Read a level from the game objects file and the weather file.
+     * @param objectsFile The path of the game objects CSV file.
+     * @param weatherFile The path of the weather CSV file.
+     * @return The level.
+     * @throws IOException if a file cannot be read.
+     * @throws IllegalArgumentException if a line of a file is malformed.
+     */
+    public static LevelFile fromCsv(String objectsFile, String weatherFile) throws IOException {
+        Level level;
+        try (CsvReader reader = IOUtils.openCommaSeparatedFile(objectsFile)) {
+            level = Level.read(reader);
+        }
+
+        WeatherCondition[] conditions = new WeatherCondition[INITIAL_WEATHER_CAPACITY];
+        int[] startFrames = new int[INITIAL_WEATHER_CAPACITY];
+        int[] endFrames = new int[INITIAL_WEATHER_CAPACITY];
+        int count = 0;
+        try (CsvReader reader = IOUtils.openCommaSeparatedFile(weatherFile)) {
+            while (reader.next()) {
+                if (count == conditions.length) {
+                    conditions = Arrays.copyOf(conditions, count * 2);
+                    startFrames = Arrays.copyOf(startFrames, count * 2);
+                    endFrames = Arrays.copyOf(endFrames, count * 2);
+                }
+                conditions[count] = reader.getEnum(0, CONDITIONS);
+                startFrames[count] = reader.getInt(1);
+                endFrames[count] = reader.getInt(2);
+                count++;
+            }
+        }
+        return new LevelFile(level, Arrays.copyOf(conditions, count), Arrays.copyOf(startFrames, count),
+                Arrays.copyOf(endFrames, count));
+    }
+
+    /**
+     * Read a compiled level file through a memory mapping of the file.
+     * @param file The path of the compiled level file.
+     * @return The level.
+     * @throws IOException if the file cannot be read.
+     * @throws IllegalArgumentException if the file is not a compiled level file of this version, or is truncated.
+     */
+    public static LevelFile read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return read(buffer, file.toString());
+        }
+    }
+
+    private static LevelFile read(ByteBuffer buffer, String name) {
+        if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a compiled level file: " + name);
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IllegalArgumentException(String.format(
+                    "Compiled level file %s has version %d, expected %d; compile it again", name, version, VERSION));
+        }
+        int objectCount = buffer.getInt();
+        int weatherCount = buffer.getInt();
+        if (objectCount < 0 || weatherCount < 0
+                || (long) objectCount * OBJECT_BYTES + (long) weatherCount * WEATHER_BYTES > buffer.remaining()) {
+            throw new IllegalArgumentException("Corrupt compiled level file: " + name);
+        }
+
+        try {
+            Level level = new Level(objectCount);
+            for (int i = 0; i < objectCount; i++) {
+                GameObjectType type = TYPES[buffer.get()];
+                int x = buffer.getInt();
+                int y = buffer.getInt();
+                if (type == GameObjectType.PASSENGER) {
+                    level.add(type, x, y, buffer.getInt(), buffer.getInt(), buffer.getInt());
+                } else {
+                    level.add(type, x, y, 0, 0, 0);
+                }
+            }
+            // the compiler writes the objects in order already, but a hand-made file may not be
+            level.sortByY();
+
+            WeatherCondition[] conditions = new WeatherCondition[weatherCount];
+            int[] startFrames = new int[weatherCount];
+            int[] endFrames = new int[weatherCount];
+            for (int i = 0; i < weatherCount; i++) {
+                conditions[i] = CONDITIONS[buffer.get()];
+                startFrames[i] = buffer.getInt();
+                endFrames[i] = buffer.getInt();
+            }
+            return new LevelFile(level, conditions, startFrames, endFrames);
+        } catch (BufferUnderflowException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Corrupt compiled level file: " + name, e);
+        }
+    }
+
+    /**
+     * Write the level as a compiled level file.
+     * @param file The path of the compiled level file, which is replaced if it exists.
+     * @throws IOException if the file cannot be written.
+     */
+    public void write(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(getCompiledSize());
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putInt(LEVEL.size());
+        buffer.putInt(WEATHER_CONDITIONS.length);
+
+        for (int i = 0; i < LEVEL.size(); i++) {
+            GameObjectType type = LEVEL.getType(i);
+            buffer.put((byte) type.ordinal());
+            buffer.putInt(LEVEL.getX(i));
+            buffer.putInt(LEVEL.getY(i));
+            if (type == GameObjectType.PASSENGER) {
+                buffer.putInt(LEVEL.getPriority(i));
+                buffer.putInt(LEVEL.getEndX(i));
+                buffer.putInt(LEVEL.getDistanceY(i));
+            }
+        }
+        for (int i = 0; i < WEATHER_CONDITIONS.length; i++) {
+            buffer.put((byte) WEATHER_CONDITIONS[i].ordinal());
+            buffer.putInt(WEATHER_START_FRAMES[i]);
+            buffer.putInt(WEATHER_END_FRAMES[i]);
+        }
+        buffer.flip();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Get the size of the level as a compiled level file.
+     * @return The number of bytes of the compiled level file.
+     */
+    public int getCompiledSize() {
+        int passengerCount = LEVEL.count(GameObjectType.PASSENGER);
+        return HEADER_BYTES + passengerCount * PASSENGER_BYTES + (LEVEL.size() - passengerCount) * OBJECT_BYTES
+                + WEATHER_CONDITIONS.length * WEATHER_BYTES;
+    }
+
+    /**
+     * Create the weather timeline of the level. Each game play needs its own timeline, since a timeline keeps track of
+     * the current interval.
+     * @return A new weather timeline.
+     */
+    public WeatherTimeline createWeatherTimeline() {
+        return new WeatherTimeline(WEATHER_CONDITIONS, WEATHER_START_FRAMES, WEATHER_END_FRAMES);
+    }
+
+    public Level getLevel() {
+        return LEVEL;
+    }
+
+    public int getWeatherCount() {
+        return WEATHER_CONDITIONS.length;
+    }
+}
@@ -0,0 +1,147 @@
+import java.util.ArrayList;
+
+/**
+ * Streams the passengers and power-ups of a level into the game play as the road scrolls.
+ * The level is held as compact descriptors ordered by y-coordinate, and a game object is only created once it comes
+ * within the activation distance above the screen. Game objects which have fallen the same distance below the screen
+ * and no longer take part in the game play are retired, so the cost of a frame does not grow with the size of the
+ * level.
+ */
+public class LevelStreamer {
+    private final GameConfig CONFIG;
+    private final Level LEVEL;
+    private final Camera CAMERA;
+    private final ColliderIds COLLIDER_IDS;
+    private final int ACTIVATION_DISTANCE;
+    private final int VIEW_HEIGHT;
+
+    private final ArrayList<Passenger> PASSENGERS;
+    private final ArrayList<Coin> COINS;
+    private final ArrayList<InvinciblePower> INVINCIBLE_POWERS;
+
+    // the index of the next descriptor to create a game object for
+    private int nextIndex;
+    private long activatedCount;
+    private long retiredCount;
+
+    /**
+     * Constructor for the LevelStreamer class, which creates the game objects already within reach of the screen.
+     * @param level The game objects of the level, ordered by y-coordinate.
+     * @param camera The camera of the game play.
+     * @param config The game configuration containing the activation distance and the game object settings.
+     * @param colliderIds The source of the collider identifiers of the game world.
+     */
+    public LevelStreamer(Level level, Camera camera, GameConfig config, ColliderIds colliderIds) {
+        this.CONFIG = config;
+        this.LEVEL = level;
+        this.CAMERA = camera;
+        this.COLLIDER_IDS = colliderIds;
+        this.ACTIVATION_DISTANCE = config.getLevelActivationDistance();
+        this.VIEW_HEIGHT = config.getWindowHeight();
+        this.PASSENGERS = new ArrayList<>();
+        this.COINS = new ArrayList<>();
+        this.INVINCIBLE_POWERS = new ArrayList<>();
+
+        activate();
+    }
+
+    /**
+     * Create the game objects which have come within reach of the screen, and retire the ones left behind.
+     */
+    public void update() {
+        activate();
+        retire();
+    }
+
+    /**
+     * Create the game objects of the descriptors within the activation distance above the screen.
+     */
+    private void activate() {
+        while (nextIndex < LEVEL.size() && CAMERA.toScreenY(LEVEL.getY(nextIndex)) >= -ACTIVATION_DISTANCE) {
+            GameObjectType type = LEVEL.getType(nextIndex);
+            int x = LEVEL.getX(nextIndex);
+            int y = LEVEL.getY(nextIndex);
+
+            // the taxi is created by the game world when the level starts
+            if (type == GameObjectType.PASSENGER) {
+                PASSENGERS.add(new Passenger(x, y, LEVEL.getPriority(nextIndex), LEVEL.getEndX(nextIndex),
+                        LEVEL.getDistanceY(nextIndex), CONFIG, COLLIDER_IDS));
+                activatedCount++;
+            } else if (type == GameObjectType.COIN) {
+                COINS.add(new Coin(x, y, CONFIG, COLLIDER_IDS));
+                activatedCount++;
+            } else if (type == GameObjectType.INVINCIBLE_POWER) {
+                INVINCIBLE_POWERS.add(new InvinciblePower(x, y, CONFIG, COLLIDER_IDS));
+                activatedCount++;
+            }
+            nextIndex++;
+        }
+    }
+
+    /**
+     * Remove the game objects which are further than the activation distance below the screen and no longer take
+     * part in the game play, keeping the order of the others.
+     */
+    private void retire() {
+        int retireY = VIEW_HEIGHT + ACTIVATION_DISTANCE;
+
+        int liveCount = 0;
+        for (int i = 0; i < PASSENGERS.size(); i++) {
+            Passenger passenger = PASSENGERS.get(i);
+            if (CAMERA.toScreenY(passenger.getY()) > retireY && passenger.canRetire()) {
+                retiredCount++;
+            } else {
+                PASSENGERS.set(liveCount, passenger);
+                liveCount++;
+            }
+        }
+        truncate(PASSENGERS, liveCount);
+
+        retirePowerUps(COINS, retireY);
+        retirePowerUps(INVINCIBLE_POWERS, retireY);
+    }
+
+    private <T extends PowerUp> void retirePowerUps(ArrayList<T> powerUps, int retireY) {
+        int liveCount = 0;
+        for (int i = 0; i < powerUps.size(); i++) {
+            T powerUp = powerUps.get(i);
+            if (CAMERA.toScreenY(powerUp.getY()) > retireY && powerUp.canRetire()) {
+                retiredCount++;
+            } else {
+                powerUps.set(liveCount, powerUp);
+                liveCount++;
+            }
+        }
+        truncate(powerUps, liveCount);
+    }
+
+    private static void truncate(ArrayList<?> list, int size) {
+        for (int i = list.size() - 1; i >= size; i--) {
+            list.remove(i);
+        }
+    }
+
+    public ArrayList<Passenger> getPassengers() {
+        return PASSENGERS;
+    }
+
+    public ArrayList<Coin> getCoins() {
+        return COINS;
+    }
+
+    public ArrayList<InvinciblePower> getInvinciblePowers() {
+        return INVINCIBLE_POWERS;
+    }
+
+    public int getPendingCount() {
+        return LEVEL.size() - nextIndex;
+    }
+
+    public long getActivatedCount() {
+        return activatedCount;
+    }
+
+    public long getRetiredCount() {
+        return retiredCount;
+    }
+}
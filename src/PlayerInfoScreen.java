@@ -1,79 +1,143 @@
-import bagel.*;
-
-import java.util.Properties;
-
-/**
- * The screen class which allows the player to enter their name.
- */
-public class PlayerInfoScreen{
-
-    private final Image BACKGROUND_IMAGE;
-    private final String PI_PLAYER_NAME;
-    private final String PI_START_GAME;
-    private final Font PI_FONT;
-    private final int PLAYER_NAME_Y;
-    private final int PLAYER_NAME_INPUT_Y;
-    private final int START_GAME_Y;
-    private String playerName;
-    private final DrawOptions FONT_STYLE;
-
-    /**
-     * Constructor for the PlayerInfoScreen class, which sets up the player information screen, including background, fonts,
-     * and input fields for player name and start game options.
-     *
-     * @param gameProps The properties object containing configurations for the game screen, such as background image and font sizes.
-     * @param msgProps The properties object containing message configurations, such as player name and start game text.
-     */
-    public PlayerInfoScreen(Properties gameProps, Properties msgProps) {
-
-        BACKGROUND_IMAGE = new Image(gameProps.getProperty("backgroundImage.playerInfo"));
-
-        PI_PLAYER_NAME = msgProps.getProperty("playerInfo.playerName");
-        PI_START_GAME = msgProps.getProperty("playerInfo.start");
-        PI_FONT = new Font(gameProps.getProperty("font"),
-                Integer.parseInt(gameProps.getProperty("playerInfo.fontSize")));
-        PLAYER_NAME_Y = Integer.parseInt(gameProps.getProperty("playerInfo.playerName.y"));
-        PLAYER_NAME_INPUT_Y = Integer.parseInt(gameProps.getProperty("playerInfo.playerNameInput.y"));
-        START_GAME_Y = Integer.parseInt(gameProps.getProperty("playerInfo.start.y"));
-
-        FONT_STYLE = new DrawOptions();
-        FONT_STYLE.setBlendColour(0.0, 0.0, 0.0);
-
-        playerName = "";
-    }
-
-    /**
-     * Show the player info screen with the input entered for the player name and the start game message.
-     * @param input The current mouse/keyboard input.
-     * @return true if ENTER key is pressed, false otherwise.
-     */
-    public boolean update(Input input) {
-        BACKGROUND_IMAGE.draw(Window.getWidth()/2.0, Window.getHeight()/2.0);
-
-        PI_FONT.drawString(PI_PLAYER_NAME,
-                Window.getWidth() / 2 - PI_FONT.getWidth(PI_PLAYER_NAME)/2, PLAYER_NAME_Y);
-
-        PI_FONT.drawString(PI_START_GAME,
-                Window.getWidth() / 2 - PI_FONT.getWidth(PI_START_GAME)/2, START_GAME_Y);
-
-        String letter = MiscUtils.getKeyPress(input);
-        if(letter != null && !(input.wasPressed(Keys.BACKSPACE) || input.wasPressed(Keys.DELETE))) {
-            playerName += letter;
-        } else if((input.wasPressed(Keys.BACKSPACE) || input.wasPressed(Keys.DELETE)) && !playerName.isEmpty()) {
-            playerName = playerName.substring(0, playerName.length()-1);
-        }
-
-        PI_FONT.drawString(PI_PLAYER_NAME,
-                Window.getWidth() / 2 - PI_FONT.getWidth(PI_PLAYER_NAME)/2, PLAYER_NAME_Y);
-
-        PI_FONT.drawString(playerName,
-                Window.getWidth() / 2 - PI_FONT.getWidth(playerName)/2, PLAYER_NAME_INPUT_Y, FONT_STYLE);
-
-        return input.wasPressed(Keys.ENTER);
-    }
-
-    public String getPlayerName() {
-        return playerName;
-    }
-
+import bagel.*;
+
+import java.util.Properties;
+
+/**
+ * The screen class which allows the player to enter their name.
+ */
+public class PlayerInfoScreen{
+
+    private final Image BACKGROUND_IMAGE;
+    private final String PI_PLAYER_NAME;
+    private final String PI_START_GAME;
+    private final Font PI_FONT;
+    private final int PLAYER_NAME_Y;
+    private final int PLAYER_NAME_INPUT_Y;
+    private final int START_GAME_Y;
+    private String playerName;
+    private final DrawOptions FONT_STYLE;
+
+    /**
+     * Constructor for the PlayerInfoScreen class, which sets up the player information screen, including background, fonts,
+     * and input fields for player name and start game options.
+     *
+     * @param gameProps The properties object containing configurations for the game screen, such as background image and font sizes.
+     * @param msgProps The properties object containing message configurations, such as player name and start game text.
+     */
+    public PlayerInfoScreen(Properties gameProps, Properties msgProps) {
+
+        BACKGROUND_IMAGE = AssetRegistry.getImage(gameProps.getProperty("backgroundImage.playerInfo"));
+
+        PI_PLAYER_NAME = msgProps.getProperty("playerInfo.playerName");
+        PI_START_GAME = msgProps.getProperty("playerInfo.start");
+        PI_FONT = AssetRegistry.getFont(gameProps.getProperty("font"),
+                Integer.parseInt(gameProps.getProperty("playerInfo.fontSize")));
+        PLAYER_NAME_Y = Integer.parseInt(gameProps.getProperty("playerInfo.playerName.y"));
+        PLAYER_NAME_INPUT_Y = Integer.parseInt(gameProps.getProperty("playerInfo.playerNameInput.y"));
+        START_GAME_Y = Integer.parseInt(gameProps.getProperty("playerInfo.start.y"));
+
+        FONT_STYLE = new DrawOptions();
+        FONT_STYLE.setBlendColour(0.0, 0.0, 0.0);
+
+        playerName = "";
+    }
+
+    /**
+     * Show the player info screen with the input entered for the player name and the start game message.
+     * @param input The current mouse/keyboard input.
+     * @return true if ENTER key is pressed, false otherwise.
+     */
+    public boolean update(Input input) {
+        BACKGROUND_IMAGE.draw(Window.getWidth()/2.0, Window.getHeight()/2.0);
+
+        PI_FONT.drawString(PI_PLAYER_NAME,
+                Window.getWidth() / 2 - PI_FONT.getWidth(PI_PLAYER_NAME)/2, PLAYER_NAME_Y);
+
+        PI_FONT.drawString(PI_START_GAME,
+                Window.getWidth() / 2 - PI_FONT.getWidth(PI_START_GAME)/2, START_GAME_Y);
+
+        String letter = getKeyPress(input);
+        if(letter != null && !(input.wasPressed(Keys.BACKSPACE) || input.wasPressed(Keys.DELETE))) {
+            playerName += letter;
+        } else if((input.wasPressed(Keys.BACKSPACE) || input.wasPressed(Keys.DELETE)) && !playerName.isEmpty()) {
+            playerName = playerName.substring(0, playerName.length()-1);
+        }
+
+        PI_FONT.drawString(PI_PLAYER_NAME,
+                Window.getWidth() / 2 - PI_FONT.getWidth(PI_PLAYER_NAME)/2, PLAYER_NAME_Y);
+
+        PI_FONT.drawString(playerName,
+                Window.getWidth() / 2 - PI_FONT.getWidth(playerName)/2, PLAYER_NAME_INPUT_Y, FONT_STYLE);
+
+        return input.wasPressed(Keys.ENTER);
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    /**
+     * Determine the key pressed by the user.
+     * @param input The current mouse/keyboard input.
+     * @return The key pressed by the user.
+     */
+    private static String getKeyPress(Input input) {
+        String key = null;
+        if(input.wasPressed(Keys.A)) {
+            key = "A";
+        } else if (input.wasPressed(Keys.B)) {
+            key = "B";
+        } else if (input.wasPressed(Keys.C)) {
+            key = "C";
+        } else if (input.wasPressed(Keys.D)) {
+            key = "D";
+        } else if (input.wasPressed(Keys.E)) {
+            key = "E";
+        } else if (input.wasPressed(Keys.F)) {
+            key = "F";
+        } else if (input.wasPressed(Keys.G)) {
+            key = "G";
+        } else if (input.wasPressed(Keys.H)) {
+            key = "H";
+        } else if (input.wasPressed(Keys.I)) {
+            key = "I";
+        } else if (input.wasPressed(Keys.J)) {
+            key = "J";
+        } else if (input.wasPressed(Keys.K)) {
+            key = "K";
+        } else if (input.wasPressed(Keys.L)) {
+            key = "L";
+        } else if (input.wasPressed(Keys.M)) {
+            key = "M";
+        } else if (input.wasPressed(Keys.N)) {
+            key = "N";
+        } else if (input.wasPressed(Keys.O)) {
+            key = "O";
+        } else if (input.wasPressed(Keys.P)) {
+            key = "P";
+        } else if (input.wasPressed(Keys.Q)) {
+            key = "Q";
+        } else if (input.wasPressed(Keys.R)) {
+            key = "R";
+        } else if (input.wasPressed(Keys.S)) {
+            key = "S";
+        } else if (input.wasPressed(Keys.T)) {
+            key = "T";
+        } else if (input.wasPressed(Keys.U)) {
+            key = "U";
+        } else if (input.wasPressed(Keys.V)) {
+            key = "V";
+        } else if (input.wasPressed(Keys.W)) {
+            key = "W";
+        } else if (input.wasPressed(Keys.X)) {
+            key = "X";
+        } else if (input.wasPressed(Keys.Y)) {
+            key = "Y";
+        } else if (input.wasPressed(Keys.Z)) {
+            key = "Z";
+        }
+
+        return key;
+    }
+
 }
\ No newline at end of file
@@ -1,11 +1,7 @@
-import bagel.Image;
-import bagel.Input;
-import bagel.Keys;
-
 /**
  * Abstract PowerUp class for collectable items, Invincible Powers and Coins
  */
-abstract class PowerUp {
+abstract class PowerUp implements Collider {
 	// Public (protected) attributes for child classes
 	/**
 	 * The maximum number of frames during which the power-up remains active.
@@ -13,14 +9,9 @@ abstract class PowerUp {
 	protected int MAX_FRAMES;
 
 	/**
-	 * The image representing the power-up.
+	 * The path to the image representing the power-up.
 	 */
-	protected Image IMAGE;
-
-	/**
-	 * The speed at which the power-up moves in the y-direction.
-	 */
-	protected int SPEED_Y;
+	protected String IMAGE_FILE;
 
 	/**
 	 * The radius of the power-up, used for collision detection.
@@ -33,15 +24,10 @@ abstract class PowerUp {
 	protected int x;
 
 	/**
-	 * The y-coordinate of the power-up.
+	 * The y-coordinate of the power-up in the world.
 	 */
 	protected int y;
 
-	/**
-	 * The movement in the y-direction.
-	 */
-	protected int moveY;
-
 	/**
 	 * Indicates whether the power-up has collided with another object.
 	 */
@@ -52,12 +38,22 @@ abstract class PowerUp {
 	 */
 	protected int framesActive = 0;
 
+	private final int COLLIDER_ID;
+
+	/**
+	 * Constructor for the PowerUp class.
+	 * @param colliderIds The source of the collider identifiers of the game world.
+	 */
+	protected PowerUp(ColliderIds colliderIds) {
+		this.COLLIDER_ID = colliderIds.next();
+	}
+
 	/**
 	 * Apply the effect of the coin on the priority of the passenger.
 	 * @param priority The current priority of the passenger.
 	 * @return The new priority of the passenger.
 	 */
-	public Integer applyEffect(Integer priority) {
+	public int applyEffect(int priority) {
 		if (framesActive <= MAX_FRAMES && priority > 1) {
 			priority -= 1;
 		}
@@ -66,47 +62,22 @@ abstract class PowerUp {
 	}
 
 	/**
-	 * Move the object in y direction according to the keyboard input, and render the coin image, before collision
-	 * happens with PowerCollectable objects. Once the collision happens, the coin active time will be increased.
-	 * @param input The current mouse/keyboard input.
+	 * Count the active frames of the power-up once it has been collected. Before that, the power-up stays at its
+	 * place on the road and has nothing to update.
 	 */
-	public void update(Input input) {
+	public void update() {
 		if(isCollided) {
 			framesActive++;
-
-		} else {
-			if(input != null) {
-				adjustToInputMovement(input);
-			}
-
-			move();
-			draw();
 		}
 	}
 
 	/**
-	 * Move the GameObject object in the y-direction based on the speedY attribute.
-	 */
-	public void move() {
-		this.y += SPEED_Y * moveY;
-	}
-
-	/**
-	 * Draw the GameObject object into the screen.
+	 * Add the image of the power-up to the render queue until it has been collected.
+	 * @param queue The render queue of the current frame.
 	 */
-	public void draw() {
-		IMAGE.draw(x, y);
-	}
-
-	/**
-	 * Adjust the movement direction in y-axis of the GameObject based on the keyboard input.
-	 * @param input The current mouse/keyboard input.
-	 */
-	public void adjustToInputMovement(Input input) {
-		if (input.wasPressed(Keys.UP)) {
-			moveY = 1;
-		}  else if(input.wasReleased(Keys.UP)) {
-			moveY = 0;
+	public void draw(RenderQueue queue) {
+		if (!isCollided) {
+			queue.drawImage(IMAGE_FILE, x, y);
 		}
 	}
 
@@ -138,13 +109,19 @@ abstract class PowerUp {
 	 * @return True if the two objects are collided, false otherwise.
 	 */
 	public boolean hasCollidedWith(Entity entity) {
-		// if the distance between the two objects is less than the sum of their radius, they are collided
-		float collisionDistance = RADIUS + entity.getRadius();
-		float currDistance = (float) Math.sqrt(Math.pow(x - entity.getX(), 2) + Math.pow(y - entity.getY(), 2));
-		return currDistance <= collisionDistance;
+		return Geometry.circlesOverlap(this, entity);
 	}
 
 
+	/**
+	 * Checks if the power-up can be removed from the game play once it is off the screen. This is the case before it
+	 * has been collected, and once its effect has run out.
+	 * @return true if the power-up no longer takes part in the game play, false otherwise.
+	 */
+	public boolean canRetire() {
+		return !isCollided || framesActive > MAX_FRAMES;
+	}
+
 	/**
 	 * Checks if the power-up is currently active.
 	 * @return true if the object has collided and is within the active frame duration, false otherwise.
@@ -153,6 +130,10 @@ abstract class PowerUp {
 		return isCollided && framesActive <= MAX_FRAMES && framesActive > 0;
 	}
 
+	public boolean getIsCollided() {
+		return isCollided;
+	}
+
 	public void setIsCollided() {
 		this.isCollided = true;
 	}
@@ -165,5 +146,25 @@ abstract class PowerUp {
 		return MAX_FRAMES;
 	}
 
+	@Override
+	public int getX() {
+		return x;
+	}
+
+	@Override
+	public int getY() {
+		return y;
+	}
+
+	@Override
+	public float getRadius() {
+		return RADIUS;
+	}
+
+	@Override
+	public int getColliderId() {
+		return COLLIDER_ID;
+	}
+
 }
 
@@ -0,0 +1,123 @@
+import bagel.Font;
+
+/**
+ * An overlay of the game play screen showing the frame profile: the median, the 99th percentile and the maximum time
+ * of each phase of the frame in microseconds, the number of live game objects, the contacts of the last frame, and
+ * the number of strings the heads-up display composed since the last refresh, which stays at 0 while no value shown
+ * changes, and the writes of the scores of the earlier game plays. The text is only rebuilt a few times a second, so
+ * reading the overlay does not disturb the numbers it shows.
+ */
+public class ProfilerOverlay {
+    private static final int REFRESH_FRAMES = 30;
+    private static final double NANOS_PER_MICRO = 1e3;
+    private static final double NANOS_PER_MILLI = 1e6;
+    private static final String[] HEADER = {"PHASE (US)", "P50", "P99", "MAX"};
+    private static final FramePhase[] PHASES = FramePhase.values();
+
+    private final Font FONT;
+    private final int X;
+    private final int Y;
+    private final int LINE_HEIGHT;
+    private final int[] COLUMN_X;
+    // the rows of the table: the header, one row per phase and the whole frame
+    private final String[][] CELLS;
+
+    private String countsText = "";
+    private String contactsText = "";
+    private String scoresText = "";
+    private int framesSinceRefresh = REFRESH_FRAMES;
+    private long lastHudAllocations;
+
+    /**
+     * Constructor for the ProfilerOverlay class.
+     * @param font The font of the overlay.
+     * @param x The x-coordinate of the left of the overlay.
+     * @param y The y-coordinate of the first line of the overlay.
+     * @param fontSize The size of the font, which the lines and the columns are spaced by.
+     */
+    public ProfilerOverlay(Font font, int x, int y, int fontSize) {
+        this.FONT = font;
+        this.X = x;
+        this.Y = y;
+        this.LINE_HEIGHT = fontSize + fontSize / 4;
+        this.COLUMN_X = new int[] {x, x + 12 * fontSize, x + 16 * fontSize, x + 20 * fontSize};
+        this.CELLS = new String[PHASES.length + 2][];
+        CELLS[0] = HEADER;
+    }
+
+    /**
+     * Rebuild the text of the overlay from the profile of the last frames, if it is due.
+     * @param profiler The profiler of the game world.
+     * @param world The game world, which the numbers of game objects are taken from.
+     * @param drawnCount The number of entries of the render queue in this frame.
+     * @param hud The heads-up display, which the number of composed strings is taken from.
+     * @param scoreWriter The writer of the scores file, or null if no score has been recorded yet.
+     */
+    public void update(FrameProfiler profiler, GameWorld world, int drawnCount, Hud hud, ScoreWriter scoreWriter) {
+        if (++framesSinceRefresh < REFRESH_FRAMES) {
+            return;
+        }
+        framesSinceRefresh = 0;
+
+        profiler.summarize();
+        for (FramePhase phase : PHASES) {
+            CELLS[phase.ordinal() + 1] = formatRow(phase.name(), profiler.getMedianNanos(phase),
+                    profiler.getP99Nanos(phase), profiler.getMaxNanos(phase));
+        }
+        CELLS[PHASES.length + 1] = formatRow("FRAME", profiler.getFrameMedianNanos(),
+                profiler.getFrameP99Nanos(), profiler.getFrameMaxNanos());
+
+        LevelStreamer streamer = world.getLevelStreamer();
+        long hudAllocations = hud.getTotalAllocations() - lastHudAllocations;
+        lastHudAllocations = hud.getTotalAllocations();
+        countsText = String.format("%d FRAMES - PASSENGERS %d, COINS %d, POWERS %d, CARS %d, FIREBALLS %d, "
+                        + "DAMAGED TAXIS %d, DRAWN %d, HUD STRINGS %d", profiler.getSampleCount(),
+                streamer.getPassengers().size(), streamer.getCoins().size(), streamer.getInvinciblePowers().size(),
+                world.getTraffic().getLiveCount(), world.getTraffic().getFireballCount(),
+                world.getDamagedTaxiCount(), drawnCount, hudAllocations);
+        ContactManager contacts = world.getContacts();
+        contactsText = String.format("CONTACTS %d - STARTED %d, CONTINUED %d, ENDED %d, PAIR TESTS %d",
+                contacts.getContactCount(), contacts.getEnterCount(), contacts.getStayCount(),
+                contacts.getExitCount(), contacts.getPairTests());
+        if (scoreWriter != null) {
+            scoresText = String.format("SCORES WRITTEN %d IN %d BATCHES, FAILED %d - LATENCY LAST %.1f MS, MAX %.1f MS",
+                    scoreWriter.getWrittenCount(), scoreWriter.getBatchCount(), scoreWriter.getFailedCount(),
+                    scoreWriter.getLastLatencyNanos() / NANOS_PER_MILLI,
+                    scoreWriter.getMaxLatencyNanos() / NANOS_PER_MILLI);
+        }
+    }
+
+    private static String[] formatRow(String name, long medianNanos, long p99Nanos, long maxNanos) {
+        return new String[] {name, formatMicros(medianNanos), formatMicros(p99Nanos), formatMicros(maxNanos)};
+    }
+
+    private static String formatMicros(long nanos) {
+        return String.format("%.1f", nanos / NANOS_PER_MICRO);
+    }
+
+    /**
+     * Draw the overlay on the screen.
+     */
+    public void draw() {
+        int y = Y;
+        for (String[] row : CELLS) {
+            if (row == null) {
+                continue;
+            }
+            for (int column = 0; column < row.length; column++) {
+                FONT.drawString(row[column], COLUMN_X[column], y);
+            }
+            y += LINE_HEIGHT;
+        }
+        FONT.drawString(countsText, X, y);
+        FONT.drawString(contactsText, X, y + LINE_HEIGHT);
+        FONT.drawString(scoresText, X, y + 2 * LINE_HEIGHT);
+    }
+
+    /**
+     * Rebuild the text as soon as the overlay is next updated, such as when it is shown again.
+     */
+    public void reset() {
+        framesSinceRefresh = REFRESH_FRAMES;
+    }
+}
@@ -0,0 +1,120 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Saves the recordings of finished game sessions into the recordings directory on a dedicated thread, so the game
+ * never waits for the disk. One writer serves every session of the program. A recording which cannot be saved is
+ * reported with its file and skipped.
+ * The queue is drained when the writer is closed, which also happens when the program exits.
+ */
+public class RecordingWriter implements AutoCloseable {
+    // queued after the last recording to stop the writer thread
+    private static final PendingRecording SHUTDOWN = new PendingRecording(null, null);
+
+    private final String DIRECTORY;
+    private final LinkedBlockingQueue<PendingRecording> QUEUE;
+    private final Thread THREAD;
+
+    private boolean isClosed;
+
+    /**
+     * A finished recording waiting to be saved, with the file it is saved to.
+     */
+    private static class PendingRecording {
+        private final InputRecording RECORDING;
+        private final String FILE;
+
+        private PendingRecording(InputRecording recording, String file) {
+            this.RECORDING = recording;
+            this.FILE = file;
+        }
+    }
+
+    /**
+     * Constructor for the RecordingWriter class, which starts the writer thread.
+     * @param directory The directory the recordings are saved in, created when the first recording is saved.
+     */
+    public RecordingWriter(String directory) {
+        this.DIRECTORY = directory;
+        this.QUEUE = new LinkedBlockingQueue<>();
+
+        this.THREAD = new Thread(this::run, "recording-writer");
+        // the shutdown hook below drains the queue, so the thread does not need to keep the program alive
+        THREAD.setDaemon(true);
+        THREAD.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "recording-writer-shutdown"));
+    }
+
+    /**
+     * Queue a finished recording to be saved. The file is named after the time it was queued and the seed of the
+     * session. This never waits for the disk.
+     * @param recording The finished recording.
+     * @throws IllegalStateException if the writer has been closed.
+     */
+    public synchronized void save(InputRecording recording) {
+        if (isClosed) {
+            throw new IllegalStateException("The recording writer of " + DIRECTORY + " is closed");
+        }
+        String file = Paths.get(DIRECTORY,
+                String.format("session-%d-%016x.rec", System.currentTimeMillis(), recording.getSeed())).toString();
+        QUEUE.add(new PendingRecording(recording, file));
+    }
+
+    /**
+     * Save the queued recordings, and stop the writer thread once they are on the disk.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            QUEUE.add(SHUTDOWN);
+        }
+
+        boolean isInterrupted = false;
+        while (THREAD.isAlive()) {
+            try {
+                THREAD.join();
+            } catch (InterruptedException e) {
+                isInterrupted = true;
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Save recordings until the writer is closed.
+     */
+    private void run() {
+        while (true) {
+            PendingRecording pending = takeNext();
+            // nothing is queued after the shutdown marker
+            if (pending == SHUTDOWN) {
+                return;
+            }
+
+            try {
+                Files.createDirectories(Paths.get(DIRECTORY));
+                pending.RECORDING.write(pending.FILE);
+            } catch (IOException e) {
+                System.err.println("Could not save the recording " + pending.FILE + ": " + e);
+            }
+        }
+    }
+
+    private PendingRecording takeNext() {
+        while (true) {
+            try {
+                return QUEUE.take();
+            } catch (InterruptedException e) {
+                // the writer thread only stops at the shutdown marker, so no queued recording is lost
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+import java.util.Arrays;
+
+/**
+ * The list of images and texts to draw for one frame of the game play, in drawing order.
+ * The game objects add their images to the queue in the render pass, and a renderer draws the queue afterwards, so the
+ * game objects do not depend on the window or the graphics library. The queue reuses its arrays from frame to frame.
+ */
+public class RenderQueue {
+    private static final int INITIAL_CAPACITY = 256;
+    private static final double OPAQUE = 1.0;
+
+    private String[] contents;
+    private double[] xs;
+    private double[] ys;
+    private double[] alphas;
+    private int[] fontSizes;
+    private int size;
+
+    /**
+     * Constructor for the RenderQueue class.
+     */
+    public RenderQueue() {
+        this.contents = new String[INITIAL_CAPACITY];
+        this.xs = new double[INITIAL_CAPACITY];
+        this.ys = new double[INITIAL_CAPACITY];
+        this.alphas = new double[INITIAL_CAPACITY];
+        this.fontSizes = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Remove every entry from the queue, before the render pass of a new frame.
+     */
+    public void clear() {
+        Arrays.fill(contents, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Add an image to the queue.
+     * @param imageFile The path to the image file.
+     * @param x The x-coordinate of the center of the image.
+     * @param y The y-coordinate of the center of the image in the world.
+     */
+    public void drawImage(String imageFile, double x, double y) {
+        add(imageFile, x, y, OPAQUE, 0);
+    }
+
+    /**
+     * Add a partly transparent image to the queue.
+     * @param imageFile The path to the image file.
+     * @param x The x-coordinate of the center of the image.
+     * @param y The y-coordinate of the center of the image in the world.
+     * @param alpha The opacity of the image, from 0 (invisible) to 1 (opaque).
+     */
+    public void drawImage(String imageFile, double x, double y, double alpha) {
+        add(imageFile, x, y, alpha, 0);
+    }
+
+    /**
+     * Add a text to the queue, drawn with the game font.
+     * @param text The text to draw.
+     * @param fontSize The size of the font.
+     * @param x The x-coordinate of the bottom left of the text.
+     * @param y The y-coordinate of the bottom left of the text in the world.
+     */
+    public void drawText(String text, int fontSize, double x, double y) {
+        add(text, x, y, OPAQUE, fontSize);
+    }
+
+    private void add(String content, double x, double y, double alpha, int fontSize) {
+        if (size == contents.length) {
+            int capacity = size * 2;
+            contents = Arrays.copyOf(contents, capacity);
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+            alphas = Arrays.copyOf(alphas, capacity);
+            fontSizes = Arrays.copyOf(fontSizes, capacity);
+        }
+
+        contents[size] = content;
+        xs[size] = x;
+        ys[size] = y;
+        alphas[size] = alpha;
+        fontSizes[size] = fontSize;
+        size++;
+    }
+
+    /**
+     * Check if an entry of the queue is a text.
+     * @param index The index of the entry.
+     * @return True if the entry is a text, false if it is an image.
+     */
+    public boolean isText(int index) {
+        return fontSizes[index] > 0;
+    }
+
+    /**
+     * Get the content of an entry of the queue.
+     * @param index The index of the entry.
+     * @return The path to the image file of an image entry, or the text of a text entry.
+     */
+    public String getContent(int index) {
+        return contents[index];
+    }
+
+    public double getX(int index) {
+        return xs[index];
+    }
+
+    public double getY(int index) {
+        return ys[index];
+    }
+
+    public double getAlpha(int index) {
+        return alphas[index];
+    }
+
+    public int getFontSize(int index) {
+        return fontSizes[index];
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,66 @@
+import java.io.IOException;
+import java.util.Properties;
+
+/**
+ * A command-line tool which plays recorded game sessions back without a window, as fast as the game world can be
+ * updated, and checks that each one ends the same way it did when it was recorded.
+ * Usage: {@code java ReplayRunner [--repeat count] recording...}. The game properties are read from res/app.properties,
+ * so the level and the settings must be the ones the sessions were recorded with.
+ * The exit status is 1 if any replay ends differently from its recording.
+ */
+public class ReplayRunner {
+
+    /**
+     * Replay the recordings given on the command line.
+     * @param args The recording files, optionally preceded by the number of times to replay each one.
+     */
+    public static void main(String[] args) throws IOException {
+        int repeatCount = 1;
+        int firstFile = 0;
+        if (args.length >= 2 && args[0].equals("--repeat")) {
+            repeatCount = Integer.parseInt(args[1]);
+            firstFile = 2;
+        }
+        if (firstFile >= args.length) {
+            System.err.println("Usage: java ReplayRunner [--repeat count] recording...");
+            System.exit(1);
+        }
+
+        GameConfig config = new GameConfig(IOUtils.readPropertiesFile("res/app.properties"));
+        boolean isAllMatching = true;
+        for (int i = firstFile; i < args.length; i++) {
+            InputRecording recording = InputRecording.read(args[i]);
+            for (int repeat = 0; repeat < repeatCount; repeat++) {
+                long start = System.nanoTime();
+                GameWorld world = replay(config, recording);
+                long elapsed = System.nanoTime() - start;
+
+                String difference = recording.compareOutcome(world);
+                isAllMatching &= difference == null;
+                System.out.printf("%s: %d frames in %.1f ms (%.0f frames/s), earnings %.2f: %s%n", args[i],
+                        world.getCurrFrame(), elapsed / 1e6, world.getCurrFrame() * 1e9 / elapsed,
+                        world.getTotalEarnings(), difference == null ? "matches" : "DIFFERS, " + difference);
+            }
+        }
+        System.exit(isAllMatching ? 0 : 1);
+    }
+
+    /**
+     * Play a recording back into a new game world, until the game finishes or the recorded frames run out.
+     * @param config The game configuration.
+     * @param recording The recording.
+     * @return The game world at the end of the replay.
+     */
+    public static GameWorld replay(GameConfig config, InputRecording recording) {
+        GameWorld world = new GameWorld(config, recording.getSeed());
+        for (int run = 0; run < recording.getRunCount(); run++) {
+            InputSnapshot controls = recording.getRunControls(run);
+            for (int frame = 0; frame < recording.getRunLength(run); frame++) {
+                if (world.update(controls)) {
+                    return world;
+                }
+            }
+        }
+        return world;
+    }
+}
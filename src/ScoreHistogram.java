@@ -0,0 +1,134 @@
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * An order-statistics index over the scores of all game plays, used to rank a score among them.
+ * Scores are counted in buckets of a fixed width, and the counts are held in a Fenwick tree, so both adding a score
+ * and counting the scores below or above a score take O(log n) time in the number of buckets, however many scores
+ * there are. Scores in the same bucket count as equal; scores outside the range of the buckets are counted in the
+ * first or the last bucket.
+ */
+public class ScoreHistogram {
+    private final int BUCKET_COUNT;
+    private final double BUCKET_WIDTH;
+    // the Fenwick tree of the bucket counts, where index i holds the count of the buckets (i - lowbit(i), i]
+    private final int[] TREE;
+    private long total;
+
+    /**
+     * Constructor for the ScoreHistogram class, which creates an index without scores.
+     * @param bucketCount The number of buckets, covering the scores from 0 to bucketCount * bucketWidth.
+     * @param bucketWidth The width of a bucket.
+     */
+    public ScoreHistogram(int bucketCount, double bucketWidth) {
+        this.BUCKET_COUNT = bucketCount;
+        this.BUCKET_WIDTH = bucketWidth;
+        this.TREE = new int[bucketCount + 1];
+    }
+
+    /**
+     * Add a score.
+     * @param score The score.
+     */
+    public void add(double score) {
+        for (int i = bucketOf(score) + 1; i <= BUCKET_COUNT; i += i & -i) {
+            TREE[i]++;
+        }
+        total++;
+    }
+
+    /**
+     * Count the scores in the buckets below the bucket of a score.
+     * @param score The score.
+     * @return The number of scores lower than the score.
+     */
+    public long countBelow(double score) {
+        return prefixCount(bucketOf(score));
+    }
+
+    /**
+     * Count the scores in the buckets above the bucket of a score.
+     * @param score The score.
+     * @return The number of scores higher than the score.
+     */
+    public long countAbove(double score) {
+        return total - prefixCount(bucketOf(score) + 1);
+    }
+
+    /**
+     * Count the scores in the first buckets.
+     * @param bucketCount The number of buckets to count.
+     * @return The number of scores in the buckets.
+     */
+    private long prefixCount(int bucketCount) {
+        long count = 0;
+        for (int i = bucketCount; i > 0; i -= i & -i) {
+            count += TREE[i];
+        }
+        return count;
+    }
+
+    private int bucketOf(double score) {
+        double bucket = Math.floor(score / BUCKET_WIDTH);
+        if (!(bucket > 0)) {
+            return 0;
+        }
+        return (int) Math.min(bucket, BUCKET_COUNT - 1);
+    }
+
+    /**
+     * Copy the index.
+     * @return An index with the same scores.
+     */
+    public ScoreHistogram copy() {
+        ScoreHistogram copy = new ScoreHistogram(BUCKET_COUNT, BUCKET_WIDTH);
+        System.arraycopy(TREE, 0, copy.TREE, 0, TREE.length);
+        copy.total = total;
+        return copy;
+    }
+
+    /**
+     * Remove all the scores.
+     */
+    public void clear() {
+        Arrays.fill(TREE, 0);
+        total = 0;
+    }
+
+    /**
+     * Save the index, in the form it is held in memory.
+     * @param out The stream to write to.
+     * @throws IOException if the stream cannot be written.
+     */
+    public void write(DataOutputStream out) throws IOException {
+        out.writeInt(BUCKET_COUNT);
+        out.writeDouble(BUCKET_WIDTH);
+        out.writeLong(total);
+        for (int i = 1; i <= BUCKET_COUNT; i++) {
+            out.writeInt(TREE[i]);
+        }
+    }
+
+    /**
+     * Load an index saved by write, replacing the scores of this index.
+     * @param in The stream to read from.
+     * @return true if the index was loaded, false if it was saved with other buckets.
+     * @throws IOException if the stream cannot be read.
+     */
+    public boolean read(DataInputStream in) throws IOException {
+        if (in.readInt() != BUCKET_COUNT || in.readDouble() != BUCKET_WIDTH) {
+            return false;
+        }
+        total = in.readLong();
+        for (int i = 1; i <= BUCKET_COUNT; i++) {
+            TREE[i] = in.readInt();
+        }
+        return true;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+}
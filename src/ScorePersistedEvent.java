@@ -0,0 +1,27 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A Flight Recorder event for scores written to the scores file, lasting for the write and the sync to the disk.
+ */
+@Name("shadowtaxi.ScorePersisted")
+@Label("Score Persisted")
+@Category("Shadow Taxi")
+@Description("Scores written to the scores file")
+@Enabled(false)
+@StackTrace(false)
+public class ScorePersistedEvent extends Event {
+    @Label("Scores")
+    int scores;
+
+    @Label("Latency")
+    @Description("The time the oldest score waited from being recorded until it was on the disk")
+    @Timespan(Timespan.NANOSECONDS)
+    long latency;
+}
@@ -0,0 +1,234 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Appends the scores of the leaderboard to the scores file on a dedicated thread, so the game never waits for the
+ * disk. Scores are queued by the game and taken by the writer thread, which appends all the scores waiting at the
+ * time with a single write and a single sync to the disk. Once a batch is on the disk, the leaderboard is told so it
+ * can save its index.
+ * The queue is drained and the file closed when the writer is closed, or when the program exits without closing it.
+ * The writer keeps metrics which can be read while it runs: the number of scores and batches written, the number of
+ * scores which could not be written, and the write latency, the time from queueing a score until it is on the disk.
+ */
+public class ScoreWriter implements AutoCloseable {
+    private static final int MAX_BATCH_SIZE = 256;
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    // queued after the last score to stop the writer thread
+    private static final PendingScore SHUTDOWN = new PendingScore(null, null, 0);
+
+    private final String LOG_FILE;
+    private final Leaderboard LEADERBOARD;
+    private final LinkedBlockingQueue<PendingScore> QUEUE;
+    private final Thread THREAD;
+    private final Thread SHUTDOWN_HOOK;
+
+    private boolean isClosed;
+    private FileChannel channel;
+
+    // metrics, only written by the writer thread and read by the game
+    private volatile long writtenCount;
+    private volatile long batchCount;
+    private volatile long failedCount;
+    private volatile long lastLatencyNanos;
+    private volatile long maxLatencyNanos;
+
+    /**
+     * A score waiting to be written, with the line it is written as and the time it was queued at.
+     */
+    private static class PendingScore {
+        private final Score SCORE;
+        private final String LINE;
+        private final long QUEUED_NANOS;
+
+        private PendingScore(Score score, String line, long queuedNanos) {
+            this.SCORE = score;
+            this.LINE = line;
+            this.QUEUED_NANOS = queuedNanos;
+        }
+    }
+
+    /**
+     * Constructor for the ScoreWriter class, which starts the writer thread.
+     * @param logFile The path to the scores file, which scores are appended to.
+     * @param leaderboard The leaderboard told about each batch written.
+     */
+    public ScoreWriter(String logFile, Leaderboard leaderboard) {
+        this.LOG_FILE = logFile;
+        this.LEADERBOARD = leaderboard;
+        this.QUEUE = new LinkedBlockingQueue<>();
+
+        this.THREAD = new Thread(this::run, "score-writer");
+        // the shutdown hook below drains the queue, so the thread does not need to keep the program alive
+        THREAD.setDaemon(true);
+        THREAD.start();
+        this.SHUTDOWN_HOOK = new Thread(this::close, "score-writer-shutdown");
+        Runtime.getRuntime().addShutdownHook(SHUTDOWN_HOOK);
+    }
+
+    /**
+     * Queue a score to be appended to the scores file. This never waits for the disk.
+     * @param score The score.
+     * @param line The line of the scores file holding the score.
+     * @throws IllegalStateException if the writer has been closed.
+     */
+    public synchronized void append(Score score, String line) {
+        if (isClosed) {
+            throw new IllegalStateException("The score writer of " + LOG_FILE + " is closed");
+        }
+        QUEUE.add(new PendingScore(score, line, System.nanoTime()));
+    }
+
+    /**
+     * Write the queued scores, and stop the writer thread once they are on the disk.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            QUEUE.add(SHUTDOWN);
+        }
+
+        boolean isInterrupted = false;
+        while (THREAD.isAlive()) {
+            try {
+                THREAD.join();
+            } catch (InterruptedException e) {
+                isInterrupted = true;
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        // a writer closed by the game no longer needs its hook, which is only removed before the program exits
+        if (Thread.currentThread() != SHUTDOWN_HOOK) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(SHUTDOWN_HOOK);
+            } catch (IllegalStateException e) {
+                // the program is already exiting, and runs the hook, which returns straight away
+            }
+        }
+    }
+
+    public long getWrittenCount() {
+        return writtenCount;
+    }
+
+    public long getBatchCount() {
+        return batchCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    public long getLastLatencyNanos() {
+        return lastLatencyNanos;
+    }
+
+    public long getMaxLatencyNanos() {
+        return maxLatencyNanos;
+    }
+
+    /**
+     * Write batches of scores until the writer is closed.
+     */
+    private void run() {
+        ArrayList<PendingScore> batch = new ArrayList<>();
+        boolean isRunning = true;
+        while (isRunning) {
+            batch.add(takeNext());
+            QUEUE.drainTo(batch, MAX_BATCH_SIZE - 1);
+
+            // nothing is queued after the shutdown marker
+            if (batch.get(batch.size() - 1) == SHUTDOWN) {
+                batch.remove(batch.size() - 1);
+                isRunning = false;
+            }
+            if (!batch.isEmpty()) {
+                writeBatch(batch);
+                batch.clear();
+            }
+        }
+
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            // the scores are already on the disk, as every batch is synced
+            System.err.println("Could not close the scores file " + LOG_FILE + ": " + e);
+        }
+    }
+
+    private PendingScore takeNext() {
+        while (true) {
+            try {
+                return QUEUE.take();
+            } catch (InterruptedException e) {
+                // the writer thread only stops at the shutdown marker, so no queued score is lost
+            }
+        }
+    }
+
+    /**
+     * Append a batch of scores to the scores file with one write and one sync, and tell the leaderboard.
+     * A failed batch is reported, counted as failed and skipped, like a failed write of the scores file always was.
+     * @param batch The scores to write, in the order they were queued.
+     */
+    private void writeBatch(ArrayList<PendingScore> batch) {
+        StringBuilder text = new StringBuilder();
+        ArrayList<Score> scores = new ArrayList<>(batch.size());
+        for (PendingScore pending : batch) {
+            text.append(pending.LINE).append(LINE_SEPARATOR);
+            scores.add(pending.SCORE);
+        }
+
+        ScorePersistedEvent event = GameEvents.SCORE_PERSISTED.isEnabled() ? new ScorePersistedEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+
+        long logLength;
+        try {
+            if (channel == null) {
+                channel = FileChannel.open(Paths.get(LOG_FILE), StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+            ByteBuffer bytes = StandardCharsets.UTF_8.encode(text.toString());
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(false);
+            logLength = channel.size();
+        } catch (IOException e) {
+            System.err.println("Could not write " + batch.size() + " scores to " + LOG_FILE + ": " + e);
+            failedCount += batch.size();
+            return;
+        }
+
+        // the first score of the batch waited the longest
+        long latency = System.nanoTime() - batch.get(0).QUEUED_NANOS;
+        lastLatencyNanos = latency;
+        maxLatencyNanos = Math.max(maxLatencyNanos, latency);
+        writtenCount += batch.size();
+        batchCount++;
+
+        if (event != null) {
+            event.scores = batch.size();
+            event.latency = latency;
+            event.commit();
+        }
+
+        LEADERBOARD.commit(scores, logLength);
+    }
+}
@@ -1,78 +1,152 @@
-import bagel.*;
-
-import java.util.Properties;
-
-public class ShadowTaxi extends AbstractGame {
-
-    private final Properties GAME_PROPS;
-    private final Properties MESSAGE_PROPS;
-
-    private HomeScreen homeScreen;
-    private GamePlayScreen gamePlayScreen;
-    private PlayerInfoScreen playerInfoScreen;
-    private GameEndScreen gameEndScreen;
-
-    /**
-     * Constructor for the ShadowTaxi class, which sets up the main game properties and initializes the home screen.
-     * @param gameProps The properties object containing game-related configurations such as window dimensions.
-     * @param messageProps The properties object containing message-related configurations such as the game title.
-     */
-    public ShadowTaxi(Properties gameProps, Properties messageProps) {
-        super(Integer.parseInt(gameProps.getProperty("window.width")),
-                Integer.parseInt(gameProps.getProperty("window.height")),
-                messageProps.getProperty("home.title"));
-
-        this.GAME_PROPS = gameProps;
-        this.MESSAGE_PROPS = messageProps;
-
-        homeScreen = new HomeScreen(GAME_PROPS, MESSAGE_PROPS);
-    }
-
-    /**
-     * Render the relevant screen based on the keyboard input given by the user and the status of the game play.
-     * @param input The current mouse/keyboard input.
-     */
-    @Override
-    protected void update(Input input) {
-        if (input.wasPressed(Keys.ESCAPE)){
-            Window.close();
-        }
-
-        // render the home screen
-        if (gamePlayScreen == null && playerInfoScreen == null && gameEndScreen == null) {
-            // if the user click ENTER button when in the Home Screen, generate the player info screen
-            if(homeScreen.update(input)) {
-                playerInfoScreen = new PlayerInfoScreen(GAME_PROPS, MESSAGE_PROPS);
-            }
-        } else if(playerInfoScreen != null && gamePlayScreen == null && gameEndScreen == null) {
-            // if the user selects to start the game, generate a new game play screen
-            if(playerInfoScreen.update(input)) {
-                gamePlayScreen = new GamePlayScreen(GAME_PROPS, MESSAGE_PROPS, playerInfoScreen.getPlayerName());
-                playerInfoScreen = null;
-            }
-        } else if (playerInfoScreen == null && gamePlayScreen != null && gameEndScreen == null){
-            // if the game is over or the level is completed, generate new game end screen
-            if(gamePlayScreen.update(input)) {
-                boolean isWon = gamePlayScreen.isLevelCompleted();
-
-                gameEndScreen = new GameEndScreen(GAME_PROPS, MESSAGE_PROPS);
-                gameEndScreen.setIsWon(isWon);
-
-                gamePlayScreen = null;
-            }
-        } else if(playerInfoScreen == null && gamePlayScreen == null && gameEndScreen != null) {
-            if(gameEndScreen.update(input)) {
-                gamePlayScreen = null;
-                playerInfoScreen = null;
-                gameEndScreen = null;
-            }
-        }
-    }
-
-    public static void main(String[] args) {
-        Properties game_props = IOUtils.readPropertiesFile("res/app.properties");
-        Properties message_props = IOUtils.readPropertiesFile("res/message_en.properties");
-        ShadowTaxi game = new ShadowTaxi(game_props, message_props);
-        game.run();
-    }
-}
+import bagel.*;
+
+import java.util.Properties;
+
+public class ShadowTaxi extends AbstractGame {
+    // the keyboard key of each game play control, in the order of the Control values
+    private static final Keys[] CONTROL_KEYS = {Keys.UP, Keys.DOWN, Keys.LEFT, Keys.RIGHT};
+    // values() copies the array on every call, so the controls captured every frame are kept here
+    private static final Control[] CONTROLS = Control.values();
+    // shows the frame profile over the game play, see FrameProfiler
+    private static final Keys PROFILER_KEY = Keys.F3;
+
+    private final GameConfig CONFIG;
+    private final Properties GAME_PROPS;
+    private final Properties MESSAGE_PROPS;
+    private final Leaderboard LEADERBOARD;
+    // saves the recordings of the sessions, or null if the sessions are not recorded
+    private final RecordingWriter RECORDING_WRITER;
+
+    private HomeScreen homeScreen;
+    private GamePlayScreen gamePlayScreen;
+    private PlayerInfoScreen playerInfoScreen;
+    private GameEndScreen gameEndScreen;
+
+    /**
+     * Constructor for the ShadowTaxi class, which sets up the main game properties and initializes the home screen.
+     * @param config The game configuration parsed and validated from the game properties.
+     * @param gameProps The properties object containing the layout configurations of the screens.
+     * @param messageProps The properties object containing message-related configurations such as the game title.
+     */
+    public ShadowTaxi(GameConfig config, Properties gameProps, Properties messageProps) {
+        super(config.getWindowWidth(), config.getWindowHeight(), messageProps.getProperty("home.title"));
+
+        this.CONFIG = config;
+        this.GAME_PROPS = gameProps;
+        this.MESSAGE_PROPS = messageProps;
+        this.LEADERBOARD = Leaderboard.open(config.getScoresFile(), config.getTopScoreCount());
+        this.RECORDING_WRITER = config.getRecordingsDir() != null
+                ? new RecordingWriter(config.getRecordingsDir()) : null;
+
+        homeScreen = new HomeScreen(GAME_PROPS, MESSAGE_PROPS);
+    }
+
+    /**
+     * Render the relevant screen based on the keyboard input given by the user and the status of the game play.
+     * @param input The current mouse/keyboard input.
+     */
+    @Override
+    protected void update(Input input) {
+        if (input.wasPressed(Keys.ESCAPE)){
+            Window.close();
+        }
+
+        // the game play controls are read from the keyboard once per frame
+        InputSnapshot controls = captureControls(input);
+
+        // render the home screen
+        if (gamePlayScreen == null && playerInfoScreen == null && gameEndScreen == null) {
+            // if the user click ENTER button when in the Home Screen, generate the player info screen
+            if(homeScreen.update(input)) {
+                playerInfoScreen = new PlayerInfoScreen(GAME_PROPS, MESSAGE_PROPS);
+            }
+        } else if(playerInfoScreen != null && gamePlayScreen == null && gameEndScreen == null) {
+            // if the user selects to start the game, generate a new game play screen
+            if(playerInfoScreen.update(input)) {
+                gamePlayScreen = new GamePlayScreen(CONFIG, GAME_PROPS, MESSAGE_PROPS,
+                        playerInfoScreen.getPlayerName(), LEADERBOARD, RECORDING_WRITER);
+                playerInfoScreen = null;
+            }
+        } else if (playerInfoScreen == null && gamePlayScreen != null && gameEndScreen == null){
+            if (input.wasPressed(PROFILER_KEY)) {
+                gamePlayScreen.toggleProfiler();
+            }
+            // if the game is over or the level is completed, generate new game end screen
+            if(gamePlayScreen.update(controls)) {
+                boolean isWon = gamePlayScreen.isLevelCompleted();
+
+                gameEndScreen = new GameEndScreen(GAME_PROPS, MESSAGE_PROPS, LEADERBOARD,
+                        gamePlayScreen.getRecordedScore());
+                gameEndScreen.setIsWon(isWon);
+
+                gamePlayScreen = null;
+            }
+        } else if(playerInfoScreen == null && gamePlayScreen == null && gameEndScreen != null) {
+            if(gameEndScreen.update(input)) {
+                gamePlayScreen = null;
+                playerInfoScreen = null;
+                gameEndScreen = null;
+            }
+        }
+    }
+
+    /**
+     * Capture the state of the game play controls in this frame.
+     * @param input The current mouse/keyboard input.
+     * @return The snapshot of the controls.
+     */
+    private static InputSnapshot captureControls(Input input) {
+        int downMask = 0;
+        int pressedMask = 0;
+        int releasedMask = 0;
+        for (Control control : CONTROLS) {
+            Keys key = CONTROL_KEYS[control.ordinal()];
+            int mask = InputSnapshot.maskOf(control);
+            if (input.isDown(key)) {
+                downMask |= mask;
+            }
+            if (input.wasPressed(key)) {
+                pressedMask |= mask;
+            }
+            if (input.wasReleased(key)) {
+                releasedMask |= mask;
+            }
+        }
+        return InputSnapshot.of(downMask, pressedMask, releasedMask);
+    }
+
+    /**
+     * Start the game. A fixed random seed can be given with the --seed option, which overrides the seed in the game
+     * properties, to play the same game again. With the --record option, each game session is recorded into the given
+     * directory, to be played back with ReplayRunner.
+     * @param args The command line arguments.
+     */
+    public static void main(String[] args) {
+        Properties game_props = IOUtils.readPropertiesFile("res/app.properties");
+        for (int i = 0; i + 1 < args.length; i++) {
+            if (args[i].equals("--seed")) {
+                game_props.setProperty("gamePlay.seed", args[i + 1]);
+            } else if (args[i].equals("--record")) {
+                game_props.setProperty("gamePlay.recordingsDir", args[i + 1]);
+            }
+        }
+        Properties message_props = IOUtils.readPropertiesFile("res/message_en.properties");
+        GameConfig config = new GameConfig(game_props);
+        ShadowTaxi game = new ShadowTaxi(config, game_props, message_props);
+        try {
+            game.run();
+        } finally {
+            game.close();
+        }
+    }
+
+    /**
+     * Write the scores and the recordings which are still queued, once the window is closed.
+     */
+    private void close() {
+        LEADERBOARD.close();
+        if (RECORDING_WRITER != null) {
+            RECORDING_WRITER.close();
+        }
+    }
+}
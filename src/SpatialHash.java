@@ -0,0 +1,151 @@
+import java.util.ArrayList;
+
+/**
+ * A uniform grid of colliders, used as the broad phase of the circle collisions.
+ * Each collider is stored in the cell containing its center, and a query only visits the cells which a colliding
+ * circle could occupy, so the cost of a query does not grow with the number of colliders in the game.
+ * The grid is stored in flat arrays which are reused when it is rebuilt, so a rebuild does not allocate once the
+ * arrays have grown to the number of colliders.
+ * @param <T> The type of the colliders held by the grid.
+ */
+public class SpatialHash<T extends Collider> {
+    private static final int BUCKET_COUNT = 256;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int EMPTY = -1;
+
+    private final float CELL_SIZE;
+    private final float SLACK;
+    private final int[] BUCKET_HEADS;
+    private final ArrayList<T> RESULTS;
+
+    private Object[] items;
+    private int[] next;
+    private int[] cellXs;
+    private int[] cellYs;
+    private int count;
+    private float maxRadius;
+
+    /**
+     * Constructor for the SpatialHash class.
+     * @param cellSize The width and height of a cell, usually twice the largest collider radius.
+     * @param slack The largest distance a collider may move between being inserted and being queried in a frame.
+     */
+    public SpatialHash(float cellSize, float slack) {
+        this.CELL_SIZE = cellSize;
+        this.SLACK = slack;
+        this.BUCKET_HEADS = new int[BUCKET_COUNT];
+        this.RESULTS = new ArrayList<>(INITIAL_CAPACITY);
+        this.items = new Object[INITIAL_CAPACITY];
+        this.next = new int[INITIAL_CAPACITY];
+        this.cellXs = new int[INITIAL_CAPACITY];
+        this.cellYs = new int[INITIAL_CAPACITY];
+        clear();
+    }
+
+    /**
+     * Remove every collider from the grid.
+     */
+    public void clear() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            BUCKET_HEADS[i] = EMPTY;
+        }
+        for (int i = 0; i < count; i++) {
+            items[i] = null;
+        }
+        count = 0;
+        maxRadius = 0;
+    }
+
+    /**
+     * Add a collider to the cell containing its current position.
+     * @param item The collider to add.
+     */
+    public void insert(T item) {
+        if (count == items.length) {
+            grow();
+        }
+
+        int cellX = toCell(item.getX());
+        int cellY = toCell(item.getY());
+        int bucket = bucketOf(cellX, cellY);
+
+        items[count] = item;
+        cellXs[count] = cellX;
+        cellYs[count] = cellY;
+        next[count] = BUCKET_HEADS[bucket];
+        BUCKET_HEADS[bucket] = count;
+        count++;
+
+        if (item.getRadius() > maxRadius) {
+            maxRadius = item.getRadius();
+        }
+    }
+
+    /**
+     * Find the colliders which may overlap a circle. The result can contain colliders which do not overlap the circle,
+     * but never misses one which does. The returned list is reused by the next query.
+     * @param x The x-coordinate of the center of the circle.
+     * @param y The y-coordinate of the center of the circle.
+     * @param radius The radius of the circle.
+     * @return The list of candidate colliders, valid until the next query.
+     */
+    @SuppressWarnings("unchecked")
+    public ArrayList<T> query(int x, int y, float radius) {
+        RESULTS.clear();
+        if (count == 0) {
+            return RESULTS;
+        }
+
+        // any collider overlapping the circle has its center within this distance of the circle's center
+        float reach = radius + maxRadius + SLACK;
+        int minCellX = toCell(x - reach);
+        int maxCellX = toCell(x + reach);
+        int minCellY = toCell(y - reach);
+        int maxCellY = toCell(y + reach);
+
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+                int index = BUCKET_HEADS[bucketOf(cellX, cellY)];
+                while (index != EMPTY) {
+                    // different cells can share a bucket, so only the colliders of this cell are taken
+                    if (cellXs[index] == cellX && cellYs[index] == cellY) {
+                        RESULTS.add((T) items[index]);
+                    }
+                    index = next[index];
+                }
+            }
+        }
+        return RESULTS;
+    }
+
+    private int toCell(float coordinate) {
+        return (int) Math.floor(coordinate / CELL_SIZE);
+    }
+
+    private int bucketOf(int cellX, int cellY) {
+        return ((cellX * 73856093) ^ (cellY * 19349663)) & (BUCKET_COUNT - 1);
+    }
+
+    /**
+     * Double the capacity of the arrays holding the colliders.
+     */
+    private void grow() {
+        int capacity = items.length * 2;
+        Object[] newItems = new Object[capacity];
+        int[] newNext = new int[capacity];
+        int[] newCellXs = new int[capacity];
+        int[] newCellYs = new int[capacity];
+        System.arraycopy(items, 0, newItems, 0, count);
+        System.arraycopy(next, 0, newNext, 0, count);
+        System.arraycopy(cellXs, 0, newCellXs, 0, count);
+        System.arraycopy(cellYs, 0, newCellYs, 0, count);
+        items = newItems;
+        next = newNext;
+        cellXs = newCellXs;
+        cellYs = newCellYs;
+    }
+
+    public int size() {
+        return count;
+    }
+}
@@ -0,0 +1,27 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for a car, an enemy car or a fireball entering the game play.
+ */
+@Name("shadowtaxi.Spawn")
+@Label("Spawn")
+@Category("Shadow Taxi")
+@Description("A car, enemy car or fireball spawned")
+@Enabled(false)
+@StackTrace(false)
+public class SpawnEvent extends Event {
+    @Label("Entity")
+    String entity;
+
+    @Label("X")
+    int x;
+
+    @Label("Y")
+    int y;
+}
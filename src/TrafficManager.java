@@ -0,0 +1,200 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+
+/**
+ * A class managing the lifecycle of the other cars and enemy cars in the game play.
+ * Cars are spawned from a pool of retired cars when one is available, updated every frame, and retired back to the
+ * pool once they leave the play area or have burnt out.
+ */
+public class TrafficManager {
+    private static final int CAR_SPAWN_RATE = 200;
+    private static final int ENEMY_CAR_SPAWN_RATE = 400;
+
+    private final GameConfig CONFIG;
+    private final GameRandom TRAFFIC_RANDOM;
+    private final GameRandom ENEMY_RANDOM;
+    private final Camera CAMERA;
+    private final ColliderIds COLLIDER_IDS;
+    private final ContactManager CONTACTS;
+    private final ArrayList<Car> CARS;
+    private final ArrayDeque<Car> CAR_POOL;
+    private final ArrayDeque<EnemyCar> ENEMY_CAR_POOL;
+    // cars further than one window height from the screen have left the play area, in screen coordinates
+    private final int PLAY_AREA_TOP;
+    private final int PLAY_AREA_BOTTOM;
+
+    private long spawnedCount;
+    private long retiredCount;
+
+    /**
+     * Constructor for the TrafficManager class.
+     * @param config The game configuration containing the car and window settings.
+     * @param camera The camera of the game play, which the play area follows.
+     * @param trafficRandom The random stream used for spawning the other cars.
+     * @param enemyRandom The random stream used for spawning the enemy cars and their fireballs.
+     * @param colliderIds The source of the collider identifiers of the game world.
+     * @param contacts The contact manager of the game world, which ends the contacts of the cars retired to a pool.
+     */
+    public TrafficManager(GameConfig config, Camera camera, GameRandom trafficRandom, GameRandom enemyRandom,
+                          ColliderIds colliderIds, ContactManager contacts) {
+        this.CONFIG = config;
+        this.CAMERA = camera;
+        this.COLLIDER_IDS = colliderIds;
+        this.CONTACTS = contacts;
+        this.TRAFFIC_RANDOM = trafficRandom;
+        this.ENEMY_RANDOM = enemyRandom;
+        this.CARS = new ArrayList<>();
+        this.CAR_POOL = new ArrayDeque<>();
+        this.ENEMY_CAR_POOL = new ArrayDeque<>();
+        this.PLAY_AREA_TOP = -config.getWindowHeight();
+        this.PLAY_AREA_BOTTOM = 2 * config.getWindowHeight();
+    }
+
+    /**
+     * Spawn the cars for this frame. Called once per frame, before update.
+     */
+    public void spawn() {
+        if (TRAFFIC_RANDOM.canSpawn(CAR_SPAWN_RATE)) {
+            spawnCar();
+        }
+
+        if (ENEMY_RANDOM.canSpawn(ENEMY_CAR_SPAWN_RATE)) {
+            spawnEnemyCar();
+        }
+    }
+
+    /**
+     * Update every live car, and retire the cars which are no longer in the game play.
+     */
+    public void update() {
+        for (int i = 0; i < CARS.size(); i++) {
+            CARS.get(i).update();
+        }
+
+        retireCars();
+    }
+
+    /**
+     * Keep the fireballs of the enemy cars at their place on the screen while the road scrolls. The cars themselves
+     * drive on the road, so they stay in the world.
+     */
+    public void keepOnScreen() {
+        for (int i = 0; i < CARS.size(); i++) {
+            Car car = CARS.get(i);
+            if (car instanceof EnemyCar) {
+                ((EnemyCar) car).keepOnScreen(CAMERA);
+            }
+        }
+    }
+
+    /**
+     * Add every live car to the render queue.
+     * @param queue The render queue of the current frame.
+     */
+    public void draw(RenderQueue queue) {
+        for (int i = 0; i < CARS.size(); i++) {
+            CARS.get(i).draw(queue);
+        }
+    }
+
+    /**
+     * Spawn an other car, reusing a retired one if possible.
+     */
+    private void spawnCar() {
+        Car car = CAR_POOL.poll();
+        if (car == null) {
+            car = new Car(CONFIG, TRAFFIC_RANDOM, CAMERA, COLLIDER_IDS);
+            reserveLiveCar();
+        } else {
+            car.respawn();
+        }
+        CARS.add(car);
+        spawnedCount++;
+    }
+
+    /**
+     * Spawn an enemy car, reusing a retired one if possible.
+     */
+    private void spawnEnemyCar() {
+        EnemyCar enemyCar = ENEMY_CAR_POOL.poll();
+        if (enemyCar == null) {
+            enemyCar = new EnemyCar(CONFIG, ENEMY_RANDOM, CAMERA, COLLIDER_IDS);
+            reserveLiveCar();
+        } else {
+            enemyCar.respawn();
+        }
+        CARS.add(enemyCar);
+        spawnedCount++;
+    }
+
+    /**
+     * Make room in the live cars for every car created so far, so a car spawned again from its pool never grows the
+     * list of live cars.
+     */
+    private void reserveLiveCar() {
+        CARS.ensureCapacity(CARS.size() + CAR_POOL.size() + ENEMY_CAR_POOL.size() + 1);
+    }
+
+    /**
+     * Move the cars which can be retired back to their pools, ending their contacts and keeping the order of the live
+     * cars.
+     */
+    private void retireCars() {
+        int playAreaTop = CAMERA.toWorldY(PLAY_AREA_TOP);
+        int playAreaBottom = CAMERA.toWorldY(PLAY_AREA_BOTTOM);
+        int liveCount = 0;
+        for (int i = 0; i < CARS.size(); i++) {
+            Car car = CARS.get(i);
+            if (car.canRetire(playAreaTop, playAreaBottom)) {
+                CONTACTS.removeContacts(car);
+                if (car instanceof EnemyCar) {
+                    ENEMY_CAR_POOL.push((EnemyCar) car);
+                } else {
+                    CAR_POOL.push(car);
+                }
+                retiredCount++;
+            } else {
+                CARS.set(liveCount, car);
+                liveCount++;
+            }
+        }
+
+        for (int i = CARS.size() - 1; i >= liveCount; i--) {
+            CARS.remove(i);
+        }
+    }
+
+    public ArrayList<Car> getCars() {
+        return CARS;
+    }
+
+    public int getLiveCount() {
+        return CARS.size();
+    }
+
+    /**
+     * Count the fireballs of the live enemy cars which are still flying.
+     * @return The number of fireballs.
+     */
+    public int getFireballCount() {
+        int count = 0;
+        for (int i = 0; i < CARS.size(); i++) {
+            if (CARS.get(i) instanceof EnemyCar) {
+                count += ((EnemyCar) CARS.get(i)).getFireballs().size();
+            }
+        }
+        return count;
+    }
+
+    public int getPooledCount() {
+        return CAR_POOL.size() + ENEMY_CAR_POOL.size();
+    }
+
+    public long getSpawnedCount() {
+        return spawnedCount;
+    }
+
+    public long getRetiredCount() {
+        return retiredCount;
+    }
+}
@@ -0,0 +1,30 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for a trip starting or ending. The fee and the penalty are only known once the trip ends.
+ */
+@Name("shadowtaxi.Trip")
+@Label("Trip")
+@Category("Shadow Taxi")
+@Description("A trip started or ended")
+@Enabled(false)
+@StackTrace(false)
+public class TripEvent extends Event {
+    @Label("Ended")
+    boolean ended;
+
+    @Label("Priority")
+    int priority;
+
+    @Label("Fee")
+    float fee;
+
+    @Label("Penalty")
+    float penalty;
+}
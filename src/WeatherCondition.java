@@ -0,0 +1,7 @@
+/**
+ * WeatherCondition is an enum class that contains all the weather conditions that can appear in the game.
+ */
+public enum WeatherCondition {
+    SUNNY,
+    RAINING
+}
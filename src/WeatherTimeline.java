@@ -0,0 +1,108 @@
+/**
+ * A compiled timeline of the weather conditions in the game play, built once from the weather intervals of the level.
+ * Each interval of the file is stored as a typed segment, and the segment for the current frame is found through a
+ * cursor, so looking up the weather of consecutive frames takes constant time.
+ */
+public class WeatherTimeline {
+    private static final WeatherCondition DEFAULT_WEATHER = WeatherCondition.SUNNY;
+
+    private final int[] START_FRAMES;
+    private final int[] END_FRAMES;
+    private final WeatherCondition[] CONDITIONS;
+    private int cursor;
+
+    /**
+     * Constructor for the WeatherTimeline class, which compiles and validates the weather intervals.
+     * Intervals must be ordered by frame. Consecutive intervals may share their boundary frame, which then belongs to
+     * the earlier interval, but they must not overlap or leave frames uncovered between them.
+     * @param conditions The weather condition of each interval.
+     * @param startFrames The first frame of each interval.
+     * @param endFrames The last frame of each interval.
+     * @throws IllegalArgumentException if an interval is malformed, overlaps the previous one or leaves a gap.
+     */
+    public WeatherTimeline(WeatherCondition[] conditions, int[] startFrames, int[] endFrames) {
+        int count = conditions.length;
+        if (startFrames.length != count || endFrames.length != count) {
+            throw new IllegalArgumentException("Every weather interval needs a condition, a start and an end frame");
+        }
+        START_FRAMES = new int[count];
+        END_FRAMES = new int[count];
+        CONDITIONS = new WeatherCondition[count];
+
+        for (int i = 0; i < count; i++) {
+            WeatherCondition condition = conditions[i];
+            int startFrame = startFrames[i];
+            int endFrame = endFrames[i];
+
+            if (endFrame < startFrame) {
+                throw new IllegalArgumentException(String.format(
+                        "Weather interval %d ends (frame %d) before it starts (frame %d)", i + 1, endFrame, startFrame));
+            }
+
+            if (i > 0) {
+                int previousEnd = END_FRAMES[i - 1];
+                if (startFrame < previousEnd) {
+                    throw new IllegalArgumentException(String.format(
+                            "Weather interval %d (from frame %d) overlaps the previous interval (to frame %d)",
+                            i + 1, startFrame, previousEnd));
+                } else if (startFrame > previousEnd + 1) {
+                    throw new IllegalArgumentException(String.format(
+                            "Weather interval %d leaves a gap between frames %d and %d",
+                            i + 1, previousEnd + 1, startFrame - 1));
+                }
+
+                // a shared boundary frame belongs to the earlier interval
+                startFrame = previousEnd + 1;
+            }
+
+            START_FRAMES[i] = startFrame;
+            END_FRAMES[i] = endFrame;
+            CONDITIONS[i] = condition;
+        }
+    }
+
+    /**
+     * Get the weather condition for a frame. Frames are usually requested in increasing order, in which case the
+     * cursor only moves forward; other frames are found with a binary search.
+     * @param frame The frame number.
+     * @return The weather condition of the frame, or SUNNY if no interval covers the frame.
+     */
+    public WeatherCondition getWeather(int frame) {
+        int count = CONDITIONS.length;
+        if (count == 0 || frame < START_FRAMES[0] || frame > END_FRAMES[count - 1]) {
+            return DEFAULT_WEATHER;
+        }
+
+        if (frame < START_FRAMES[cursor]) {
+            cursor = findSegment(frame);
+        } else {
+            while (frame > END_FRAMES[cursor]) {
+                cursor++;
+            }
+        }
+        return CONDITIONS[cursor];
+    }
+
+    /**
+     * Find the interval containing the frame with a binary search.
+     * @param frame The frame number, which must be covered by the timeline.
+     * @return The index of the interval containing the frame.
+     */
+    private int findSegment(int frame) {
+        int low = 0;
+        int high = CONDITIONS.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (END_FRAMES[mid] < frame) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public int getSegmentCount() {
+        return CONDITIONS.length;
+    }
+}